@@ -1,18 +1,28 @@
 package com.dread;
 
-import com.dread.client.CinematicCompensationRenderer;
-import com.dread.client.CinematicLetterboxRenderer;
-import com.dread.client.CrawlVignetteRenderer;
+import com.dread.client.BloodDripEmitter;
+import com.dread.client.ClientCinematicTimelines;
 import com.dread.client.DeathCinematicClientHandler;
-import com.dread.client.DownedHudOverlay;
 import com.dread.client.DownedStateClientHandler;
 import com.dread.client.DreadEntityRenderer;
+import com.dread.client.DreadOverlayCompositor;
+import com.dread.client.DreadProximityAudio;
+import com.dread.client.DreadTextureAtlas;
+import com.dread.client.EffectQualityGovernor;
 import com.dread.client.RevivalProgressRenderer;
 import com.dread.client.ShaderCompatibilityDetector;
+import com.dread.client.SoundWarmup;
+import com.dread.client.TensionSoundDirector;
+import com.dread.client.TorchExtinguishClientHandler;
+import com.dread.network.packets.CinematicTimelinesS2C;
 import com.dread.network.packets.CinematicTriggerS2C;
+import com.dread.network.packets.DownedFlagS2C;
 import com.dread.network.packets.DownedStateUpdateS2C;
+import com.dread.network.packets.JumpScareS2C;
 import com.dread.network.packets.RemoveDownedEffectsS2C;
 import com.dread.network.packets.RevivalProgressS2C;
+import com.dread.network.packets.TensionUpdateS2C;
+import com.dread.network.packets.TorchExtinguishS2C;
 import com.dread.registry.ModEntities;
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
@@ -39,23 +49,38 @@ public class DreadClient implements ClientModInitializer {
         EntityRendererRegistry.register(ModEntities.DREAD, DreadEntityRenderer::new);
         LOGGER.info("Registered DreadEntityRenderer with AutoGlowingGeoLayer");
 
-        // Register death cinematic handler
+        // Register load-time atlas of Dread pulse, eye and glowmask frames
+        DreadTextureAtlas.register();
+
+        // Register frame-time driven quality tiers (read by the effect renderers below)
+        EffectQualityGovernor.register();
+
+        // Register death cinematic handler and its synced timelines
+        ClientCinematicTimelines.register();
         DeathCinematicClientHandler.register();
 
         // Register downed state handlers
         DownedStateClientHandler.register();
-        DownedHudOverlay.register();
-        CrawlVignetteRenderer.register();
-
-        // Register cinematic compensation renderer
-        CinematicCompensationRenderer.register();
 
-        // Register cinematic letterbox renderer (Phase 13)
-        CinematicLetterboxRenderer.register();
+        // Register the fused HUD overlay pass (blood vignette, compensation, letterbox, downed timer)
+        DreadOverlayCompositor.register();
 
         // Register revival progress renderer
         RevivalProgressRenderer.register();
 
+        // Register staggered smoke/sound for batched torch extinguishing
+        TorchExtinguishClientHandler.register();
+
+        // Register client-side blood drip for downed players
+        BloodDripEmitter.register();
+
+        // Register client-side tension soundscape and per-Dread proximity loops
+        TensionSoundDirector.register();
+        DreadProximityAudio.register();
+
+        // Register join-time decode of short Dread clips (first jump scare without a hitch)
+        SoundWarmup.register();
+
         // Register packet receivers
         registerPacketReceivers();
 
@@ -63,6 +88,16 @@ public class DreadClient implements ClientModInitializer {
     }
 
     private void registerPacketReceivers() {
+        // Cinematic timelines - replaced on join and after data pack reload
+        ClientPlayNetworking.registerGlobalReceiver(
+            CinematicTimelinesS2C.ID,
+            (payload, context) -> {
+                context.client().execute(() -> {
+                    ClientCinematicTimelines.onSync(payload);
+                });
+            }
+        );
+
         // Cinematic trigger packet - starts death camera lock
         ClientPlayNetworking.registerGlobalReceiver(
             CinematicTriggerS2C.ID,
@@ -78,14 +113,14 @@ public class DreadClient implements ClientModInitializer {
             DownedStateUpdateS2C.ID,
             (payload, context) -> {
                 context.client().execute(() -> {
-                    boolean isDowned = payload.isDowned();
-                    int remainingSeconds = payload.remainingSeconds();
                     boolean isMercyMode = payload.isMercyMode();
 
-                    if (isDowned) {
-                        DownedStateClientHandler.applyDownedEffects(remainingSeconds, isMercyMode);
+                    if (payload.isDowned()) {
+                        DownedStateClientHandler.applyDownedEffects(
+                            payload.remainingTicks(), payload.expiryTick(), payload.isPaused(), isMercyMode);
                     } else {
-                        DownedStateClientHandler.updateCountdown(remainingSeconds);
+                        DownedStateClientHandler.updateTimer(
+                            payload.remainingTicks(), payload.expiryTick(), payload.isPaused());
                         DownedStateClientHandler.setMercyMode(isMercyMode);
                     }
                 });
@@ -108,14 +143,54 @@ public class DreadClient implements ClientModInitializer {
             (payload, context) -> {
                 context.client().execute(() -> {
                     RevivalProgressRenderer.updateRevivalProgress(
-                        payload.downedPlayerUUID(),
+                        payload.downedEntityId(),
                         payload.active(),
-                        payload.progress()
+                        payload.durationTicks()
                     );
                 });
             }
         );
 
+        // Torch extinguish batch - staggers smoke and fizz per torch
+        ClientPlayNetworking.registerGlobalReceiver(
+            TorchExtinguishS2C.ID,
+            (payload, context) -> {
+                context.client().execute(() -> {
+                    TorchExtinguishClientHandler.onExtinguished(payload);
+                });
+            }
+        );
+
+        // Downed flag - drives client-side blood drip emitter
+        ClientPlayNetworking.registerGlobalReceiver(
+            DownedFlagS2C.ID,
+            (payload, context) -> {
+                context.client().execute(() -> {
+                    BloodDripEmitter.onDownedFlag(payload);
+                });
+            }
+        );
+
+        // Tension scalar - drives client-side tension soundscape
+        ClientPlayNetworking.registerGlobalReceiver(
+            TensionUpdateS2C.ID,
+            (payload, context) -> {
+                context.client().execute(() -> {
+                    TensionSoundDirector.onTensionUpdate(payload);
+                });
+            }
+        );
+
+        // Jump scare - opens the client-side sound suppression window
+        ClientPlayNetworking.registerGlobalReceiver(
+            JumpScareS2C.ID,
+            (payload, context) -> {
+                context.client().execute(() -> {
+                    TensionSoundDirector.onJumpScare(payload);
+                });
+            }
+        );
+
         LOGGER.info("Registered packet receivers for death cinematics and downed state");
     }
 }
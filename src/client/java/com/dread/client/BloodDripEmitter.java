@@ -0,0 +1,90 @@
+package com.dread.client;
+
+import com.dread.network.packets.DownedFlagS2C;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.entity.Entity;
+import net.minecraft.particle.DustParticleEffect;
+import net.minecraft.util.math.random.Random;
+import org.joml.Vector3f;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Client-side blood-drip emitter attached to every player known to be downed.
+ * Driven by the replicated DownedFlagS2C - the server sends no particle packets.
+ */
+public class BloodDripEmitter {
+
+    private static final int EMIT_INTERVAL_TICKS = 10; // 0.5 seconds
+
+    // Blood red color for particles (dark crimson red)
+    private static final DustParticleEffect BLOOD_PARTICLE = new DustParticleEffect(
+        new Vector3f(0.6f, 0.05f, 0.05f),  // Dark blood red RGB
+        1.2f  // Slightly larger size
+    );
+
+    private static final Set<Integer> downedEntityIds = new HashSet<>();
+    private static final Random RANDOM = Random.create();
+
+    /**
+     * Register client tick emitter and disconnect cleanup.
+     */
+    public static void register() {
+        ClientTickEvents.END_CLIENT_TICK.register(BloodDripEmitter::tick);
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> downedEntityIds.clear());
+    }
+
+    /**
+     * Update the downed flag for an entity from network packet.
+     */
+    public static void onDownedFlag(DownedFlagS2C payload) {
+        if (payload.downed()) {
+            downedEntityIds.add(payload.entityId());
+        } else {
+            downedEntityIds.remove(payload.entityId());
+        }
+    }
+
+    private static void tick(MinecraftClient client) {
+        ClientWorld world = client.world;
+        if (world == null || downedEntityIds.isEmpty() || client.isPaused()) return;
+        if (world.getTime() % EMIT_INTERVAL_TICKS != 0) return;
+
+        Iterator<Integer> iter = downedEntityIds.iterator();
+        while (iter.hasNext()) {
+            Entity entity = world.getEntityById(iter.next());
+            if (entity == null || entity.isRemoved()) {
+                // No longer tracked - the server re-sends the flag if we start tracking again
+                iter.remove();
+                continue;
+            }
+
+            emit(world, entity);
+        }
+    }
+
+    /**
+     * Spawn 2-4 blood particles around the entity at random offsets (fewer at lower effect quality).
+     */
+    private static void emit(ClientWorld world, Entity entity) {
+        int particleCount = EffectQualityGovernor.scaleParticleCount(RANDOM.nextInt(3) + 2);
+        for (int i = 0; i < particleCount; i++) {
+            double offsetX = (RANDOM.nextDouble() - 0.5) * 0.8;
+            double offsetZ = (RANDOM.nextDouble() - 0.5) * 0.8;
+            double offsetY = RANDOM.nextDouble() * 0.3;
+
+            world.addParticle(
+                BLOOD_PARTICLE,
+                entity.getX() + offsetX,
+                entity.getY() + 0.2 + offsetY,  // Near ground level
+                entity.getZ() + offsetZ,
+                0.0, -0.05, 0.0  // Slow downward drift
+            );
+        }
+    }
+}
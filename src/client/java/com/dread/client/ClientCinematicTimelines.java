@@ -0,0 +1,43 @@
+package com.dread.client;
+
+import com.dread.cinematic.CinematicTimeline;
+import com.dread.network.packets.CinematicTimelinesS2C;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.minecraft.util.Identifier;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Client-side copy of the server's cinematic timelines.
+ * Replaced wholesale by CinematicTimelinesS2C on join and after each data pack reload.
+ */
+public class ClientCinematicTimelines {
+
+    private static Map<Identifier, CinematicTimeline> timelines = new HashMap<>();
+
+    /**
+     * Register disconnect cleanup.
+     */
+    public static void register() {
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> timelines = new HashMap<>());
+    }
+
+    /**
+     * Replace all timelines from network packet.
+     */
+    public static void onSync(CinematicTimelinesS2C payload) {
+        Map<Identifier, CinematicTimeline> synced = new HashMap<>();
+        for (CinematicTimeline timeline : payload.timelines()) {
+            synced.put(timeline.id(), timeline);
+        }
+        timelines = synced;
+    }
+
+    /**
+     * Get a timeline by id, falling back to the built-in death grab timeline.
+     */
+    public static CinematicTimeline get(Identifier id) {
+        return timelines.getOrDefault(id, CinematicTimeline.DEFAULT_DEATH_GRAB);
+    }
+}
@@ -1,5 +1,9 @@
 package com.dread.client;
 
+import com.dread.cinematic.CinematicTimeline;
+import com.dread.cinematic.CinematicTimeline.Phase;
+import com.dread.cinematic.CinematicTimeline.ShakeCue;
+import com.dread.config.DreadConfigLoader;
 import com.dread.entity.DreadEntity;
 import com.dread.network.packets.CinematicTriggerS2C;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
@@ -15,27 +19,28 @@ import org.slf4j.LoggerFactory;
  * Stays in first-person. Camera smoothly locks onto Dread's face.
  * Mouse input is blocked by MouseInputMixin during cinematic.
  *
- * Total duration: 6 seconds (120 ticks)
+ * Timing comes from the cinematic timeline synced by the server (see CinematicTimeline).
+ * Elapsed time is derived from the client world time and the start tick in the trigger
+ * packet, so camera, texture phases and shake cues stay in step with the server's
+ * Dread placement and vanish without follow-up packets.
  */
 public class DeathCinematicClientHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DeathCinematicClientHandler.class);
 
-    // Cinematic timing
-    private static final int CINEMATIC_DURATION_TICKS = 120; // 6 seconds total helplessness
-    private static final int DREAD_ANIMATION_TICKS = 100;    // 5 seconds - Dread attacks then leaves
-    private static final int STARE_PHASE_START = 24;         // 1.2s - eyes open texture during grab/hold phase
-
-    // Camera control - smooth but not too slow
-    private static final float CAMERA_LERP_SPEED = 0.1f;
 
     // Current interpolated camera values
     private static float currentYaw = 0;
     private static float currentPitch = 0;
 
     private static boolean cinematicActive = false;
-    private static int cinematicTimer = 0;
+    private static CinematicTimeline timeline = CinematicTimeline.DEFAULT_DEATH_GRAB;
+    private static long startTick = 0;
     private static int dreadEntityId = -1;
+    private static Vec3d dreadAnchor = Vec3d.ZERO;  // Face-to-face position the server placed the Dread at
+    private static int nextShakeCue = 0;
+
+    private static final CameraShakeHandler shakeHandler = new CameraShakeHandler();
 
     /**
      * Register client tick event for cinematic updates.
@@ -69,24 +74,30 @@ public class DeathCinematicClientHandler {
                 dread.setPlayingDeathGrab(true);
             }
 
+            timeline = ClientCinematicTimelines.get(payload.timelineId());
+            startTick = payload.startTick();
+            nextShakeCue = 0;
+            shakeHandler.reset();
+
+            // Anchor on the server's placement - the client's own yaw can differ (input latency,
+            // late mouse lock, rotation still in flight)
+            dreadAnchor = new Vec3d(payload.anchorX(), payload.anchorY(), payload.anchorZ());
+
             // Store starting camera rotation
             currentYaw = client.player.getYaw();
             currentPitch = client.player.getPitch();
 
             // Start cinematic
             cinematicActive = true;
-            cinematicTimer = 0;
 
-            LOGGER.debug("Death cinematic started (v3.1 - simple first-person, 6 seconds)");
+            LOGGER.debug("Death cinematic started ({} - {} ticks)", timeline.id(), timeline.durationTicks());
         }
     }
 
     /**
-     * Tick the cinematic - smoothly look at Dread's face.
+     * Tick the cinematic - fire shake cues and smoothly look at Dread's face.
      */
     private static void tick() {
-        cinematicTimer++;
-
         MinecraftClient client = MinecraftClient.getInstance();
         if (client.player == null || client.world == null) {
             endCinematic();
@@ -99,8 +110,21 @@ public class DeathCinematicClientHandler {
             return;
         }
 
-        // Look at Dread's face (upper center of entity)
-        Vec3d dreadFace = dreadEntity.getPos().add(0, dreadEntity.getHeight() * 0.7, 0);
+        int elapsed = getElapsedTicks();
+
+        // Fire every shake cue whose tick has been reached
+        while (nextShakeCue < timeline.shakeCues().size() && timeline.shakeCues().get(nextShakeCue).tick() <= elapsed) {
+            ShakeCue cue = timeline.shakeCues().get(nextShakeCue++);
+            float configIntensity = DreadConfigLoader.getConfig().cameraShakeIntensity / 100.0f;
+            float finalIntensity = shakeHandler.getAdaptiveIntensity(client, configIntensity);
+            shakeHandler.startShake(cue.intensity() * finalIntensity);
+            CinematicCompensationRenderer.setCompensation(
+                shakeHandler.getCompensationAmount(configIntensity, finalIntensity));
+        }
+        shakeHandler.tick(0.05f);
+
+        // Look at Dread's face (upper center of entity) at the timeline anchor
+        Vec3d dreadFace = dreadAnchor.add(0, dreadEntity.getHeight() * timeline.lookHeight(), 0);
         Vec3d playerEyes = client.player.getEyePos();
         Vec3d toTarget = dreadFace.subtract(playerEyes).normalize();
 
@@ -108,8 +132,10 @@ public class DeathCinematicClientHandler {
         float targetPitch = (float) Math.toDegrees(-Math.asin(toTarget.y));
 
         // Smooth rotation interpolation
-        currentYaw = lerpAngle(currentYaw, targetYaw, CAMERA_LERP_SPEED);
-        currentPitch = MathHelper.lerp(CAMERA_LERP_SPEED, currentPitch, MathHelper.clamp(targetPitch, -80, 80));
+        float lerpSpeed = timeline.lerpSpeed();
+        currentYaw = lerpAngle(currentYaw, targetYaw, lerpSpeed);
+        currentPitch = MathHelper.lerp(lerpSpeed, currentPitch,
+            MathHelper.clamp(targetPitch, -timeline.pitchClamp(), timeline.pitchClamp()));
 
         // Apply rotation to player
         client.player.setYaw(currentYaw);
@@ -117,11 +143,20 @@ public class DeathCinematicClientHandler {
         client.player.prevYaw = currentYaw;
         client.player.prevPitch = currentPitch;
 
-        if (cinematicTimer >= CINEMATIC_DURATION_TICKS) {
+        if (elapsed >= timeline.durationTicks()) {
             endCinematic();
         }
     }
 
+    /**
+     * Ticks since the cinematic started, from client world time.
+     */
+    private static int getElapsedTicks() {
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client.world == null) return 0;
+        return (int) Math.max(0, client.world.getTime() - startTick);
+    }
+
     /**
      * Lerp between angles, handling wrap-around at 180/-180.
      */
@@ -137,7 +172,7 @@ public class DeathCinematicClientHandler {
         MinecraftClient client = MinecraftClient.getInstance();
 
         LOGGER.debug("Cinematic ended after {} ticks ({} seconds)",
-            cinematicTimer, cinematicTimer / 20.0f);
+            getElapsedTicks(), getElapsedTicks() / 20.0f);
 
         // Stop death_grab animation on entity
         if (client.world != null && dreadEntityId != -1) {
@@ -149,8 +184,11 @@ public class DeathCinematicClientHandler {
 
         // Reset cinematic state
         cinematicActive = false;
-        cinematicTimer = 0;
         dreadEntityId = -1;
+        dreadAnchor = Vec3d.ZERO;
+        nextShakeCue = 0;
+        shakeHandler.reset();
+        CinematicCompensationRenderer.stop();
         currentYaw = 0;
         currentPitch = 0;
     }
@@ -167,29 +205,44 @@ public class DeathCinematicClientHandler {
      * Returns -1 if cinematic not active.
      */
     public static int getCinematicTimer() {
-        return cinematicActive ? cinematicTimer : -1;
+        return cinematicActive ? getElapsedTicks() : -1;
+    }
+
+    /**
+     * Get the timeline texture phase at the current tick.
+     * Returns IDLE if cinematic not active.
+     */
+    public static Phase getTexturePhase() {
+        return cinematicActive ? timeline.phaseAt(getElapsedTicks()) : Phase.IDLE;
+    }
+
+    /**
+     * Get ticks since the current texture phase started (for pulse animation).
+     */
+    public static int getTexturePhaseTick() {
+        int elapsed = getElapsedTicks();
+        return elapsed - timeline.phaseStartAt(elapsed);
     }
 
     /**
      * Check if cinematic is in the stare phase (for texture animation).
-     * Eyes open texture kicks in at 3 seconds.
      */
     public static boolean isInFaceCloseup() {
-        return cinematicActive && cinematicTimer >= STARE_PHASE_START;
+        return getTexturePhase() == Phase.EYES_OPEN;
     }
 
     /**
-     * Get yaw shake offset - returns 0 (no shake).
+     * Get yaw shake offset from the timeline's shake cues.
      */
     public static float getShakeYawOffset() {
-        return 0.0f;
+        return shakeHandler.getYawOffset();
     }
 
     /**
-     * Get pitch shake offset - returns 0 (no shake).
+     * Get pitch shake offset from the timeline's shake cues.
      */
     public static float getShakePitchOffset() {
-        return 0.0f;
+        return shakeHandler.getPitchOffset();
     }
 
     /**
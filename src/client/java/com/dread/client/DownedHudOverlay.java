@@ -1,11 +1,8 @@
 package com.dread.client;
 
-import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawContext;
 import net.minecraft.client.render.RenderTickCounter;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * HUD overlay for downed state countdown timer.
@@ -13,27 +10,17 @@ import org.slf4j.LoggerFactory;
  * Timer color transitions from yellow to red as time decreases.
  */
 public class DownedHudOverlay {
-    private static final Logger LOGGER = LoggerFactory.getLogger("dread-client");
-
     // Colors
     private static final int COLOR_ORANGE = 0xFFFFAA00;  // Minecraft Gold/Orange for MERCY
     private static final int COLOR_YELLOW = 0xFFFFFF00;
     private static final int COLOR_RED = 0xFFFF0000;
 
-    /**
-     * Registers the HUD overlay with Fabric API.
-     * Called during client initialization.
-     */
-    public static void register() {
-        HudRenderCallback.EVENT.register(DownedHudOverlay::renderDownedHud);
-        LOGGER.info("Registered DownedHudOverlay");
-    }
-
     /**
      * Renders the downed state HUD overlay.
      * Only renders if player is currently downed.
+     * Called by DreadOverlayCompositor after its full-screen pass, so the text stays on top.
      */
-    private static void renderDownedHud(DrawContext drawContext, RenderTickCounter tickCounter) {
+    static void renderDownedHud(DrawContext drawContext, RenderTickCounter tickCounter) {
         if (!DownedStateClientHandler.isDownedEffectActive()) {
             return;
         }
@@ -1,9 +1,12 @@
 package com.dread.client;
 
+import org.ladysnake.satin.api.managed.ManagedFramebuffer;
 import org.ladysnake.satin.api.managed.ManagedShaderEffect;
 import org.ladysnake.satin.api.managed.ShaderEffectManager;
 import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderEvents;
 import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gl.Framebuffer;
+import net.minecraft.client.world.ClientWorld;
 import net.minecraft.util.Identifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,18 +14,29 @@ import org.slf4j.LoggerFactory;
 /**
  * Client-side handler for managing downed state visual effects.
  * Applies heavy blur and vignette post-processing shader when player is downed.
- * Uses Satin API for shader management.
+ * Uses Satin API for shader management. On the HIGH quality tier the blur runs at full
+ * resolution; below it, a variant blurs a half-resolution copy (a quarter of the fill) whose
+ * targets are sized from code, since post chain JSON only takes fixed target sizes.
  * Supports fade-in transition for smooth cinematic-to-downed handoff.
  */
 public class DownedStateClientHandler {
     private static final Logger LOGGER = LoggerFactory.getLogger("dread-client");
     private static final Identifier DOWNED_SHADER = Identifier.of("dread", "shaders/post/downed_blur.json");
+    private static final Identifier DOWNED_SHADER_HALF = Identifier.of("dread", "shaders/post/downed_blur_half.json");
+    private static final String[] HALF_RESOLUTION_TARGETS = {"half", "half_swap"};
+    private static final float BASE_BLUR_RADIUS = 8.0f; // Matches the BlurRadius default in downed_blur.json
 
     private static ManagedShaderEffect downedShader;
+    private static ManagedShaderEffect downedShaderHalf;
     private static boolean isDownedEffectActive = false;
-    private static int remainingSeconds = 0;
     private static boolean isMercyMode = false;
 
+    // Countdown is extrapolated locally from the last server update
+    private static final int DEFAULT_DOWNED_TICKS = 6000; // 300 seconds
+    private static long expiryTick = 0;        // Client world tick at which the timer runs out
+    private static int pausedRemainingTicks = 0;
+    private static boolean isTimerPaused = false;
+
     // Fade-in support for smooth transition from cinematic
     private static float shaderFadeIntensity = 1.0f;  // 0.0 = no effect, 1.0 = full effect
 
@@ -33,6 +47,8 @@ public class DownedStateClientHandler {
     public static void register() {
         // Initialize shader effect through Satin API
         downedShader = ShaderEffectManager.getInstance().manage(DOWNED_SHADER);
+        downedShaderHalf = ShaderEffectManager.getInstance().manage(DOWNED_SHADER_HALF,
+            DownedStateClientHandler::fitHalfResolutionTargets);
 
         // Register shader rendering at END to capture everything including clouds
         WorldRenderEvents.END.register(context -> {
@@ -42,9 +58,16 @@ public class DownedStateClientHandler {
             }
 
             if (isDownedEffectActive && downedShader != null && shaderFadeIntensity > 0.0f) {
-                // Set fade intensity uniform before rendering
-                downedShader.setUniformValue("FadeIntensity", shaderFadeIntensity);
-                downedShader.render(context.tickCounter().getTickDelta(true));
+                EffectQualityGovernor.Tier tier = EffectQualityGovernor.getTier();
+                ManagedShaderEffect shader = tier.hasHalfResolutionBlur() ? downedShaderHalf : downedShader;
+                if (shader == downedShaderHalf) {
+                    fitHalfResolutionTargets(shader);
+                }
+
+                // Set fade intensity and quality-scaled blur radius before rendering
+                shader.setUniformValue("FadeIntensity", shaderFadeIntensity);
+                shader.setUniformValue("BlurRadius", BASE_BLUR_RADIUS * tier.getBlurRadiusScale());
+                shader.render(context.tickCounter().getTickDelta(true));
             }
         });
 
@@ -52,42 +75,59 @@ public class DownedStateClientHandler {
     }
 
     /**
-     * Applies the downed state shader effect.
+     * Size the half-resolution blur targets to half the main framebuffer.
+     * They are declared with a placeholder fixed size, so resizes of the main framebuffer
+     * leave them alone; checked every frame and on (re)initialization of the effect.
+     */
+    private static void fitHalfResolutionTargets(ManagedShaderEffect shader) {
+        Framebuffer main = MinecraftClient.getInstance().getFramebuffer();
+        int width = Math.max(1, (main.textureWidth + 1) / 2);
+        int height = Math.max(1, (main.textureHeight + 1) / 2);
+
+        for (String name : HALF_RESOLUTION_TARGETS) {
+            ManagedFramebuffer target = shader.getTarget(name);
+            Framebuffer framebuffer = target.getFramebuffer();
+            if (framebuffer != null && (framebuffer.textureWidth != width || framebuffer.textureHeight != height)) {
+                framebuffer.resize(width, height, MinecraftClient.IS_SYSTEM_MAC);
+            }
+        }
+    }
+
+    /**
+     * Applies the downed state shader effect and timer.
      * Called when DownedStateUpdateS2C packet is received with isDowned=true.
      *
-     * @param remainingTime Remaining seconds until permanent death
+     * @param remainingTicks Remaining ticks until permanent death (shown frozen while paused)
+     * @param expiry Server world tick at which the timer runs out (used while running)
+     * @param paused Whether the timer is paused (revival or cinematic in progress)
      * @param mercyMode Whether player is in MERCY mode (singleplayer forgiveness)
      */
-    public static void applyDownedEffects(int remainingTime, boolean mercyMode) {
+    public static void applyDownedEffects(int remainingTicks, long expiry, boolean paused, boolean mercyMode) {
+        boolean wasActive = isDownedEffectActive;
         isDownedEffectActive = true;
-        remainingSeconds = remainingTime;
         isMercyMode = mercyMode;
+        updateTimer(remainingTicks, expiry, paused);
+
+        // Updates now arrive on every state change and heartbeat - only log the transition
+        if (wasActive) return;
 
         if (ShaderCompatibilityDetector.shouldDisablePostProcessing()) {
             LOGGER.info("Applied downed state ({}s remaining, {}) - shader effects disabled for compatibility",
-                remainingTime, mercyMode ? "MERCY" : "NO MERCY");
+                getRemainingSeconds(), mercyMode ? "MERCY" : "NO MERCY");
         } else {
             LOGGER.info("Applied downed state effects ({}s remaining, {})",
-                remainingTime, mercyMode ? "MERCY" : "NO MERCY");
+                getRemainingSeconds(), mercyMode ? "MERCY" : "NO MERCY");
         }
     }
 
-    /**
-     * Applies the downed state shader effect with default mercy mode.
-     * Called when DownedStateUpdateS2C packet is received with isDowned=true.
-     *
-     * @param remainingTime Remaining seconds until permanent death
-     */
-    public static void applyDownedEffects(int remainingTime) {
-        applyDownedEffects(remainingTime, false); // Default to NO MERCY
-    }
-
     /**
      * Applies the downed state shader effect with default timer.
      * Called from death cinematic when transitioning to downed state.
+     * The timer is shown paused (the server pauses it during the cinematic) until
+     * the first DownedStateUpdateS2C arrives.
      */
     public static void applyDownedEffects() {
-        applyDownedEffects(300); // Default 300 seconds from DOWNED_DURATION_TICKS
+        applyDownedEffects(DEFAULT_DOWNED_TICKS, 0, true, false); // Default to NO MERCY
     }
 
     /**
@@ -96,7 +136,9 @@ public class DownedStateClientHandler {
      */
     public static void removeDownedEffects() {
         isDownedEffectActive = false;
-        remainingSeconds = 0;
+        expiryTick = 0;
+        pausedRemainingTicks = 0;
+        isTimerPaused = false;
         isMercyMode = false;
         shaderFadeIntensity = 1.0f;  // Reset for next time
         CrawlCameraHandler.resetPitchLimitTransition();  // Reset pitch limits
@@ -123,20 +165,28 @@ public class DownedStateClientHandler {
 
     /**
      * Updates the countdown timer.
-     * Called on tick or when DownedStateUpdateS2C packet received.
+     * Called when DownedStateUpdateS2C packet received.
      *
-     * @param remainingTime Updated remaining seconds
+     * @param remainingTicks Remaining ticks (shown frozen while paused)
+     * @param expiry Server world tick at which the timer runs out
+     * @param paused Whether the timer is paused
      */
-    public static void updateCountdown(int remainingTime) {
-        remainingSeconds = remainingTime;
+    public static void updateTimer(int remainingTicks, long expiry, boolean paused) {
+        pausedRemainingTicks = remainingTicks;
+        expiryTick = expiry;
+        isTimerPaused = paused;
     }
 
     /**
-     * Returns the current remaining seconds.
+     * Returns the current remaining seconds, counted down locally from the client world time.
      * Used by HUD overlay for countdown timer.
      */
     public static int getRemainingSeconds() {
-        return remainingSeconds;
+        ClientWorld world = MinecraftClient.getInstance().world;
+        if (isTimerPaused || world == null) {
+            return pausedRemainingTicks / 20;
+        }
+        return (int) Math.max(0, expiryTick - world.getTime()) / 20;
     }
 
     /**
@@ -1,8 +1,18 @@
 package com.dread.client;
 
 import com.dread.entity.DreadEntity;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.VertexConsumerProvider;
 import net.minecraft.client.render.entity.EntityRendererFactory;
+import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import org.joml.Vector4f;
+import software.bernie.geckolib.cache.object.GeoQuad;
+import software.bernie.geckolib.cache.object.GeoVertex;
 import software.bernie.geckolib.renderer.GeoEntityRenderer;
 import software.bernie.geckolib.renderer.layer.AutoGlowingGeoLayer;
 
@@ -13,19 +23,71 @@ import software.bernie.geckolib.renderer.layer.AutoGlowingGeoLayer;
  * - Renders entity using GeoModel geometry
  * - AutoGlowingGeoLayer for emissive eyes and tentacle tips
  * - Supports texture variant switching via model
+ * - Binds the shared DreadTextureAtlas and selects the frame by UV offset when the atlas is built,
+ *   so every Dread lands in the same render batch regardless of cinematic phase
  */
 public class DreadEntityRenderer extends GeoEntityRenderer<DreadEntity> {
+    // Atlas cell of the Dread being rendered, -1 when rendering from per-frame textures
+    private int atlasCell = -1;
+    // Scratch for vertex transforms (rendering is single-threaded)
+    private final Vector4f scratchPosition = new Vector4f();
+
     public DreadEntityRenderer(EntityRendererFactory.Context context) {
         super(context, new DreadEntityModel());
 
         // Add emissive layer for glowing eyes and tentacle tips
-        // AutoGlowingGeoLayer automatically detects and renders _glowmask textures
-        this.addRenderLayer(new AutoGlowingGeoLayer<>(this));
+        // Glowmask render layers come precomputed (atlas or DreadTextureTable) instead of
+        // AutoGlowingGeoLayer building the _glowmask path on every render
+        this.addRenderLayer(new AutoGlowingGeoLayer<>(this) {
+            @Override
+            protected RenderLayer getRenderType(DreadEntity animatable, @Nullable VertexConsumerProvider bufferSource) {
+                if (atlasCell >= 0) {
+                    return DreadTextureAtlas.getGlowLayer();
+                }
+                return DreadTextureTable.getGlowLayer(DreadEntityModel.getTextureSlot(animatable));
+            }
+        });
+    }
+
+    @Override
+    public void render(DreadEntity entity, float entityYaw, float partialTick, MatrixStack poseStack,
+                       VertexConsumerProvider bufferSource, int packedLight) {
+        atlasCell = DreadTextureAtlas.isReady()
+            ? DreadTextureAtlas.getCell(DreadEntityModel.getTextureSlot(entity))
+            : -1;
+        try {
+            super.render(entity, entityYaw, partialTick, poseStack, bufferSource, packedLight);
+        } finally {
+            atlasCell = -1;
+        }
     }
 
     @Override
     public Identifier getTextureLocation(DreadEntity entity) {
+        if (atlasCell >= 0) {
+            return DreadTextureAtlas.ALBEDO_ATLAS;
+        }
+
         // Delegate to model for texture variant selection
         return this.model.getTextureResource(entity);
     }
+
+    @Override
+    public void createVerticesOfQuad(GeoQuad quad, Matrix4f poseState, Vector3f normal, VertexConsumer buffer,
+                                     int packedLight, int packedOverlay, int colour) {
+        if (atlasCell < 0) {
+            super.createVerticesOfQuad(quad, poseState, normal, buffer, packedLight, packedOverlay, colour);
+            return;
+        }
+
+        // Same as GeckoLib's default, with the frame UVs offset into this Dread's atlas cell
+        for (GeoVertex vertex : quad.vertices()) {
+            Vector3f position = vertex.position();
+            Vector4f vector4f = poseState.transform(scratchPosition.set(position.x(), position.y(), position.z(), 1.0f));
+
+            buffer.vertex(vector4f.x(), vector4f.y(), vector4f.z(), colour,
+                DreadTextureAtlas.remapU(atlasCell, vertex.texU()), DreadTextureAtlas.remapV(atlasCell, vertex.texV()),
+                packedOverlay, packedLight, normal.x(), normal.y(), normal.z());
+        }
+    }
 }
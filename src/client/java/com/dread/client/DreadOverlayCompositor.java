@@ -0,0 +1,109 @@
+package com.dread.client;
+
+import com.mojang.blaze3d.platform.GlStateManager;
+import com.mojang.blaze3d.systems.RenderSystem;
+import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gl.ShaderProgram;
+import net.minecraft.client.gui.DrawContext;
+import net.minecraft.client.render.BufferBuilder;
+import net.minecraft.client.render.BufferRenderer;
+import net.minecraft.client.render.RenderTickCounter;
+import net.minecraft.client.render.Tessellator;
+import net.minecraft.client.render.VertexFormat;
+import net.minecraft.client.render.VertexFormats;
+import net.minecraft.util.Identifier;
+import org.joml.Matrix4f;
+import org.ladysnake.satin.api.managed.ManagedCoreShader;
+import org.ladysnake.satin.api.managed.ShaderEffectManager;
+import org.ladysnake.satin.api.managed.uniform.Uniform1f;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Single HUD pass for every full-screen Dread overlay.
+ * The blood vignette, compensation vignette and flash, and letterbox bars are evaluated
+ * as layers and composited in one full-screen draw by the overlay_composite core shader,
+ * instead of each renderer setting blend state and drawing its own full-screen quad.
+ * The downed countdown text is drawn afterwards so it stays on top.
+ */
+public class DreadOverlayCompositor {
+    private static final Logger LOGGER = LoggerFactory.getLogger("dread-client");
+
+    private static final Identifier OVERLAY_SHADER = Identifier.of("dread", "overlay_composite");
+
+    // Vanilla vignette texture, tinted per layer in the shader
+    private static final Identifier VIGNETTE_TEXTURE =
+        Identifier.ofVanilla("textures/misc/vignette.png");
+
+    private static ManagedCoreShader overlayShader;
+    private static Uniform1f bloodVignetteOpacity;
+    private static Uniform1f compensationVignetteOpacity;
+    private static Uniform1f flashOpacity;
+    private static Uniform1f letterboxHeight;
+
+    /**
+     * Register the compositor with HudRenderCallback.
+     * Called during client initialization.
+     */
+    public static void register() {
+        overlayShader = ShaderEffectManager.getInstance().manageCoreShader(OVERLAY_SHADER, VertexFormats.POSITION_TEXTURE);
+        bloodVignetteOpacity = overlayShader.findUniform1f("BloodVignetteOpacity");
+        compensationVignetteOpacity = overlayShader.findUniform1f("CompensationVignetteOpacity");
+        flashOpacity = overlayShader.findUniform1f("FlashOpacity");
+        letterboxHeight = overlayShader.findUniform1f("LetterboxHeight");
+
+        HudRenderCallback.EVENT.register(DreadOverlayCompositor::render);
+        LOGGER.info("Registered DreadOverlayCompositor");
+    }
+
+    private static void render(DrawContext context, RenderTickCounter tickCounter) {
+        float blood = CrawlVignetteRenderer.getOpacity();
+        float compensation = CinematicCompensationRenderer.getVignetteOpacity();
+        float flash = CinematicCompensationRenderer.getFlashOpacity();
+        float letterbox = CinematicLetterboxRenderer.getBarHeight();
+
+        if (blood > 0.0f || compensation > 0.0f || flash > 0.0f || letterbox > 0.0f) {
+            drawLayers(context, blood, compensation, flash, letterbox);
+        }
+
+        DownedHudOverlay.renderDownedHud(context, tickCounter);
+    }
+
+    /**
+     * Draw all overlay layers as one full-screen quad.
+     * The shader outputs premultiplied alpha, so blending once with (ONE, ONE_MINUS_SRC_ALPHA)
+     * matches drawing each layer in turn with the default blend function.
+     */
+    private static void drawLayers(DrawContext context, float blood, float compensation, float flash, float letterbox) {
+        ShaderProgram program = overlayShader.getProgram();
+        if (program == null) {
+            return; // Shader not loaded (resource reload in progress or compile failure)
+        }
+
+        MinecraftClient client = MinecraftClient.getInstance();
+        int width = client.getWindow().getScaledWidth();
+        int height = client.getWindow().getScaledHeight();
+
+        bloodVignetteOpacity.set(blood);
+        compensationVignetteOpacity.set(compensation);
+        flashOpacity.set(flash);
+        letterboxHeight.set(letterbox);
+
+        RenderSystem.setShader(() -> program);
+        RenderSystem.setShaderTexture(0, VIGNETTE_TEXTURE);
+        RenderSystem.enableBlend();
+        RenderSystem.blendFunc(GlStateManager.SrcFactor.ONE, GlStateManager.DstFactor.ONE_MINUS_SRC_ALPHA);
+
+        Matrix4f matrix = context.getMatrices().peek().getPositionMatrix();
+        BufferBuilder buffer = Tessellator.getInstance().begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_TEXTURE);
+        buffer.vertex(matrix, 0, 0, 0).texture(0.0f, 0.0f);
+        buffer.vertex(matrix, 0, height, 0).texture(0.0f, 1.0f);
+        buffer.vertex(matrix, width, height, 0).texture(1.0f, 1.0f);
+        buffer.vertex(matrix, width, 0, 0).texture(1.0f, 0.0f);
+        BufferRenderer.drawWithGlobalProgram(buffer.end());
+
+        RenderSystem.defaultBlendFunc();
+        RenderSystem.disableBlend();
+    }
+}
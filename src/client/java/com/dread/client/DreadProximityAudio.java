@@ -0,0 +1,48 @@
+package com.dread.client;
+
+import com.dread.entity.DreadEntity;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientEntityEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.minecraft.client.MinecraftClient;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Starts a DreadProximitySoundInstance for every Dread the client loads and stops it on unload.
+ * Proximity audio is entirely client-side - the server sends no proximity sound packets.
+ */
+public class DreadProximityAudio {
+
+    private static final Map<Integer, DreadProximitySoundInstance> activeSounds = new HashMap<>();
+
+    /**
+     * Register entity load/unload hooks and disconnect cleanup.
+     */
+    public static void register() {
+        ClientEntityEvents.ENTITY_LOAD.register((entity, world) -> {
+            if (entity instanceof DreadEntity dread) {
+                DreadProximitySoundInstance sound = new DreadProximitySoundInstance(dread);
+                DreadProximitySoundInstance previous = activeSounds.put(dread.getId(), sound);
+                if (previous != null) {
+                    previous.stop();
+                }
+                MinecraftClient.getInstance().getSoundManager().play(sound);
+            }
+        });
+
+        ClientEntityEvents.ENTITY_UNLOAD.register((entity, world) -> {
+            if (entity instanceof DreadEntity) {
+                DreadProximitySoundInstance sound = activeSounds.remove(entity.getId());
+                if (sound != null) {
+                    sound.stop();
+                }
+            }
+        });
+
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> {
+            activeSounds.values().forEach(DreadProximitySoundInstance::stop);
+            activeSounds.clear();
+        });
+    }
+}
@@ -0,0 +1,94 @@
+package com.dread.client;
+
+import com.dread.entity.DreadEntity;
+import com.dread.sound.ModSounds;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.client.sound.MovingSoundInstance;
+import net.minecraft.client.sound.SoundInstance;
+import net.minecraft.sound.SoundCategory;
+
+/**
+ * Looping proximity hum attached to one rendered Dread.
+ * Follows the Dread and is attenuated every tick for the local listener with the
+ * unnatural silence rule: silent within 2 blocks, swelling to normal volume at 8, then
+ * rolling off linearly to silence at 16. Muted during a jump scare window.
+ */
+public class DreadProximitySoundInstance extends MovingSoundInstance {
+
+    private static final float SILENCE_DISTANCE = 2.0f; // Complete silence when very close
+    private static final float RAMP_END_DISTANCE = 8.0f;
+    private static final float AUDIBLE_RANGE = 16.0f;
+    private static final float MIN_AUDIBLE_VOLUME = 0.05f;
+
+    private final DreadEntity dread;
+
+    public DreadProximitySoundInstance(DreadEntity dread) {
+        super(ModSounds.DREAD_PROXIMITY, SoundCategory.HOSTILE, SoundInstance.createRandom());
+        this.dread = dread;
+        this.repeat = true;
+        this.repeatDelay = 0;
+        this.pitch = 0.8f;
+        // Volume is computed here from the listener's distance
+        this.attenuationType = AttenuationType.NONE;
+        this.x = dread.getX();
+        this.y = dread.getY();
+        this.z = dread.getZ();
+        this.volume = computeVolume();
+    }
+
+    @Override
+    public boolean canPlay() {
+        return !this.dread.isSilent();
+    }
+
+    @Override
+    public boolean shouldAlwaysPlay() {
+        // Starts silent when the listener is out of range and swells once they approach
+        return true;
+    }
+
+    @Override
+    public void tick() {
+        if (this.dread.isRemoved() || !this.dread.isAlive()) {
+            this.setDone();
+            return;
+        }
+
+        this.x = this.dread.getX();
+        this.y = this.dread.getY();
+        this.z = this.dread.getZ();
+        this.volume = computeVolume();
+    }
+
+    /**
+     * Stop the loop (Dread unloaded).
+     */
+    public void stop() {
+        this.setDone();
+    }
+
+    private float computeVolume() {
+        ClientPlayerEntity player = MinecraftClient.getInstance().player;
+        if (player == null || TensionSoundDirector.isJumpScareActive()) return 0.0f;
+
+        float distance = player.distanceTo(this.dread);
+
+        // Inverse distance for volume (quieter as entity gets closer - unnatural silence)
+        float volume;
+        if (distance < SILENCE_DISTANCE) {
+            volume = 0.0f;
+        } else if (distance < RAMP_END_DISTANCE) {
+            volume = 0.1f + ((distance - SILENCE_DISTANCE) / (RAMP_END_DISTANCE - SILENCE_DISTANCE)) * 0.4f;
+        } else if (distance < AUDIBLE_RANGE) {
+            volume = 0.5f; // Normal volume at distance
+        } else {
+            volume = 0.0f;
+        }
+
+        // Distance rolloff in place of the sound engine's linear attenuation
+        volume *= Math.max(0.0f, 1.0f - distance / AUDIBLE_RANGE);
+
+        return volume > MIN_AUDIBLE_VOLUME ? volume : 0.0f;
+    }
+}
@@ -0,0 +1,328 @@
+package com.dread.client;
+
+import com.dread.cinematic.CinematicTimeline.Phase;
+import com.mojang.blaze3d.systems.RenderSystem;
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.texture.NativeImage;
+import net.minecraft.client.texture.NativeImageBackedTexture;
+import net.minecraft.resource.Resource;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.resource.ResourceType;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Load-time atlas of every Dread albedo and glowmask frame.
+ * On each resource reload the frames in DreadTextureTable are stitched into one albedo
+ * texture, and their glow texels baked into one glow texture with the same column/row layout
+ * (at the glowmasks' own, smaller cell size).
+ * DreadEntityRenderer then binds the same two textures for every Dread and selects the frame
+ * by offsetting UVs into its cell, so Dreads in different cinematic phases still share one
+ * render batch.
+ *
+ * Cells are packed with as few empty cells as fit within MAX_ATLAS_SIZE per side and
+ * MAX_ATLAS_PIXELS in total. Frames that are missing or not the size of their variant's idle
+ * texture fall back to the idle frame. If the atlas cannot be built (or would exceed the size
+ * limits) the renderer keeps using the per-frame textures.
+ */
+public class DreadTextureAtlas {
+    private static final Logger LOGGER = LoggerFactory.getLogger("dread-client");
+
+    public static final Identifier ALBEDO_ATLAS = Identifier.of("dread", "textures/atlas/dread_entity.png");
+    public static final Identifier GLOW_ATLAS = Identifier.of("dread", "textures/atlas/dread_entity_glowmask.png");
+
+    private static final int MAX_ATLAS_SIZE = 4096;              // Per side, also capped by the GPU limit
+    private static final long MAX_ATLAS_PIXELS = 4096L * 2048L;  // 32 MiB of RGBA per atlas
+
+    // Atlas cell per DreadTextureTable slot (slots that resolve to the same frame share a cell)
+    private static final int[] slotCells = new int[DreadTextureTable.SLOTS];
+    private static int columns = 1;
+    private static int rows = 1;
+    private static boolean ready = false;
+    @Nullable
+    private static RenderLayer glowLayer;
+
+    /**
+     * Register the client resource reload listener that rebuilds the atlas.
+     * Called during client initialization.
+     */
+    public static void register() {
+        ResourceManagerHelper.get(ResourceType.CLIENT_RESOURCES).registerReloadListener(new SimpleSynchronousResourceReloadListener() {
+            @Override
+            public Identifier getFabricId() {
+                return Identifier.of("dread", "entity_texture_atlas");
+            }
+
+            @Override
+            public void reload(ResourceManager manager) {
+                rebuild(manager);
+            }
+        });
+    }
+
+    /**
+     * Whether the atlas is built and the renderer should use it.
+     */
+    public static boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Get the atlas cell for a texture table slot.
+     */
+    public static int getCell(int slot) {
+        return slotCells[slot];
+    }
+
+    /**
+     * Remap a frame-local U coordinate (0-1) into a cell of the atlas.
+     * Both atlases share the layout, so the result addresses the glow atlas too.
+     */
+    public static float remapU(int cell, float u) {
+        return ((cell % columns) + u) / columns;
+    }
+
+    /**
+     * Remap a frame-local V coordinate (0-1) into a cell of the atlas.
+     */
+    public static float remapV(int cell, float v) {
+        return ((cell / columns) + v) / rows;
+    }
+
+    /**
+     * Get the emissive render layer for the glowmask atlas.
+     */
+    public static RenderLayer getGlowLayer() {
+        return glowLayer;
+    }
+
+    private static void rebuild(ResourceManager manager) {
+        ready = false;
+
+        Map<Identifier, NativeImage> albedoFrames = new HashMap<>();
+        try {
+            // Resolve every slot to a loadable frame, falling back to the variant's idle frame
+            Identifier[] resolved = new Identifier[DreadTextureTable.SLOTS];
+            for (int slot = 0; slot < DreadTextureTable.SLOTS; slot++) {
+                resolved[slot] = resolveFrame(manager, slot, albedoFrames);
+                if (resolved[slot] == null) {
+                    LOGGER.warn("Dread texture atlas disabled: no idle texture for {}", DreadTextureTable.getTexture(slot));
+                    return;
+                }
+            }
+
+            // One cell per distinct frame
+            List<Identifier> cells = new ArrayList<>();
+            for (int slot = 0; slot < DreadTextureTable.SLOTS; slot++) {
+                int cell = cells.indexOf(resolved[slot]);
+                if (cell < 0) {
+                    cell = cells.size();
+                    cells.add(resolved[slot]);
+                }
+                slotCells[slot] = cell;
+            }
+
+            NativeImage firstFrame = albedoFrames.get(cells.get(0));
+            int cellWidth = firstFrame.getWidth();
+            int cellHeight = firstFrame.getHeight();
+            for (Identifier frame : cells) {
+                NativeImage image = albedoFrames.get(frame);
+                if (image.getWidth() != cellWidth || image.getHeight() != cellHeight) {
+                    LOGGER.warn("Dread texture atlas disabled: {} is {}x{}, expected {}x{}",
+                        frame, image.getWidth(), image.getHeight(), cellWidth, cellHeight);
+                    return;
+                }
+            }
+
+            int maxSize = Math.min(MAX_ATLAS_SIZE, RenderSystem.maxSupportedTextureSize());
+            int newColumns = chooseColumns(cells.size(), cellWidth, cellHeight, maxSize);
+            if (newColumns == 0) {
+                LOGGER.warn("Dread texture atlas disabled: {} cells of {}x{} do not fit in {}x{} ({} pixels)",
+                    cells.size(), cellWidth, cellHeight, maxSize, maxSize, MAX_ATLAS_PIXELS);
+                return;
+            }
+            int newRows = (cells.size() + newColumns - 1) / newColumns;
+
+            NativeImage albedoAtlas = new NativeImage(NativeImage.Format.RGBA,
+                newColumns * cellWidth, newRows * cellHeight, true);
+            NativeImage[] cellImages = new NativeImage[cells.size()];
+            for (int cell = 0; cell < cells.size(); cell++) {
+                cellImages[cell] = albedoFrames.get(cells.get(cell));
+                cellImages[cell].copyRect(albedoAtlas, 0, 0,
+                    (cell % newColumns) * cellWidth, (cell / newColumns) * cellHeight, cellWidth, cellHeight, false, false);
+            }
+
+            NativeImage glowAtlas = bakeGlowAtlas(manager, cells, cellImages, newColumns, newRows);
+
+            MinecraftClient client = MinecraftClient.getInstance();
+            client.getTextureManager().registerTexture(ALBEDO_ATLAS, new NativeImageBackedTexture(albedoAtlas));
+            client.getTextureManager().registerTexture(GLOW_ATLAS, new NativeImageBackedTexture(glowAtlas));
+
+            columns = newColumns;
+            rows = newRows;
+            glowLayer = RenderLayer.getEntityTranslucentEmissive(GLOW_ATLAS);
+            ready = true;
+
+            LOGGER.info("Built Dread texture atlas: {} frames in {}x{} cells of {}x{}",
+                cells.size(), columns, rows, cellWidth, cellHeight);
+        } catch (IOException e) {
+            LOGGER.warn("Dread texture atlas disabled: failed to read frames", e);
+        } finally {
+            albedoFrames.values().forEach(NativeImage::close);
+        }
+    }
+
+    /**
+     * Resolve the frame a slot should show: its own texture if it exists and matches the
+     * idle texture's size, otherwise the idle frame of its variant (then of the base form).
+     * Loaded images are cached in frames.
+     */
+    @Nullable
+    private static Identifier resolveFrame(ResourceManager manager, int slot, Map<Identifier, NativeImage> frames) throws IOException {
+        int variant = DreadTextureTable.getVariant(slot);
+        Identifier[] candidates = {
+            DreadTextureTable.getTexture(slot),
+            DreadTextureTable.getTexture(DreadTextureTable.slot(variant, Phase.IDLE, 0)),
+            DreadTextureTable.getTexture(DreadTextureTable.slot(0, Phase.IDLE, 0))
+        };
+        NativeImage idle = load(manager, candidates[2], frames);
+
+        for (Identifier candidate : candidates) {
+            NativeImage image = load(manager, candidate, frames);
+            if (image == null) continue;
+            if (idle == null || (image.getWidth() == idle.getWidth() && image.getHeight() == idle.getHeight())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Pick the column count that leaves the fewest empty cells within the size limits,
+     * preferring the squarer layout on ties.
+     *
+     * @return The column count, or 0 if no layout fits
+     */
+    private static int chooseColumns(int cellCount, int cellWidth, int cellHeight, int maxSize) {
+        int bestColumns = 0;
+        int bestCells = Integer.MAX_VALUE;
+        long bestSide = Long.MAX_VALUE;
+        for (int cols = 1; cols <= cellCount; cols++) {
+            int rowCount = (cellCount + cols - 1) / cols;
+            long width = (long) cols * cellWidth;
+            long height = (long) rowCount * cellHeight;
+            if (width > maxSize || height > maxSize || width * height > MAX_ATLAS_PIXELS) continue;
+
+            int totalCells = cols * rowCount;
+            long side = Math.max(width, height);
+            if (totalCells < bestCells || (totalCells == bestCells && side < bestSide)) {
+                bestColumns = cols;
+                bestCells = totalCells;
+                bestSide = side;
+            }
+        }
+        return bestColumns;
+    }
+
+    /**
+     * Bake each cell's glow texels into an atlas with the albedo atlas's column/row layout,
+     * at the glowmask's own cell size (the frames' glowmasks are smaller than their albedo).
+     * Like GeckoLib's AutoGlowingTexture, every non-empty glowmask texel takes the albedo colour
+     * under it, with the glowmask's alpha when that is non-zero; the albedo is sampled
+     * nearest-neighbour at the texel's centre. All other texels, cells without a glowmask and
+     * glowmasks of a different size stay transparent.
+     */
+    private static NativeImage bakeGlowAtlas(ResourceManager manager, List<Identifier> cells, NativeImage[] cellImages,
+                                             int atlasColumns, int atlasRows) throws IOException {
+        NativeImage[] glowmasks = new NativeImage[cells.size()];
+        try {
+            int glowWidth = 0;
+            int glowHeight = 0;
+            for (int cell = 0; cell < cells.size(); cell++) {
+                glowmasks[cell] = readImage(manager, getGlowmaskId(cells.get(cell)));
+                if (glowmasks[cell] != null && glowWidth == 0) {
+                    glowWidth = glowmasks[cell].getWidth();
+                    glowHeight = glowmasks[cell].getHeight();
+                }
+            }
+
+            NativeImage atlas = new NativeImage(NativeImage.Format.RGBA,
+                Math.max(1, atlasColumns * glowWidth), Math.max(1, atlasRows * glowHeight), true);
+            for (int cell = 0; cell < cells.size(); cell++) {
+                NativeImage glowmask = glowmasks[cell];
+                if (glowmask == null) continue;
+                if (glowmask.getWidth() != glowWidth || glowmask.getHeight() != glowHeight) {
+                    LOGGER.warn("Skipping glowmask for {}: {}x{}, expected {}x{}",
+                        cells.get(cell), glowmask.getWidth(), glowmask.getHeight(), glowWidth, glowHeight);
+                    continue;
+                }
+
+                NativeImage albedo = cellImages[cell];
+                int originX = (cell % atlasColumns) * glowWidth;
+                int originY = (cell / atlasColumns) * glowHeight;
+                for (int y = 0; y < glowHeight; y++) {
+                    int albedoY = ((2 * y + 1) * albedo.getHeight()) / (2 * glowHeight);
+                    for (int x = 0; x < glowWidth; x++) {
+                        int glow = glowmask.getColor(x, y);
+                        if (glow == 0) continue;
+
+                        // ABGR: keep the albedo colour, take the glowmask's alpha
+                        int colour = albedo.getColor(((2 * x + 1) * albedo.getWidth()) / (2 * glowWidth), albedoY);
+                        int alpha = glow >>> 24;
+                        if (alpha > 0) {
+                            colour = (alpha << 24) | (colour & 0x00FFFFFF);
+                        }
+                        atlas.setColor(originX + x, originY + y, colour);
+                    }
+                }
+            }
+            return atlas;
+        } finally {
+            Arrays.stream(glowmasks).filter(Objects::nonNull).forEach(NativeImage::close);
+        }
+    }
+
+    private static Identifier getGlowmaskId(Identifier texture) {
+        String path = texture.getPath();
+        return Identifier.of(texture.getNamespace(), path.substring(0, path.length() - ".png".length()) + "_glowmask.png");
+    }
+
+    @Nullable
+    private static NativeImage load(ResourceManager manager, Identifier id, Map<Identifier, NativeImage> frames) throws IOException {
+        if (frames.containsKey(id)) {
+            return frames.get(id);
+        }
+        NativeImage image = readImage(manager, id);
+        if (image != null) {
+            frames.put(id, image);
+        }
+        return image;
+    }
+
+    @Nullable
+    private static NativeImage readImage(ResourceManager manager, Identifier id) throws IOException {
+        Optional<Resource> resource = manager.getResource(id);
+        if (resource.isEmpty()) {
+            return null;
+        }
+        try (InputStream stream = resource.get().getInputStream()) {
+            // Albedo frames are RGB on disk; copyRect needs RGBA
+            return NativeImage.read(NativeImage.Format.RGBA, stream);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.dread.client;
+
+import com.dread.cinematic.CinematicTimeline.Phase;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.util.Identifier;
+import software.bernie.geckolib.cache.texture.AutoGlowingTexture;
+
+/**
+ * Precomputed Dread texture table indexed by [variant][phase][frame].
+ * Every texture Identifier is built once at class load, so texture selection during a
+ * cinematic is an array read with no string concatenation or Identifier hashing.
+ * The matching glowmask RenderLayer for each slot is resolved through AutoGlowingTexture
+ * on first use (it needs the texture manager) and cached per slot.
+ */
+public final class DreadTextureTable {
+
+    public static final int VARIANTS = 3;
+    public static final int PULSE_FRAMES = 3; // 0=dim, 1=medium, 2=bright
+
+    private static final int PHASES = Phase.values().length;
+    public static final int SLOTS = VARIANTS * PHASES * PULSE_FRAMES;
+
+    private static final String[] VARIANT_BASE_NAMES = {"dread_base", "dread_variant2", "dread_variant3"};
+
+    // Flattened [variant][phase][frame]; IDLE and EYES_OPEN repeat their single frame
+    private static final Identifier[] TEXTURES = new Identifier[SLOTS];
+    private static final RenderLayer[] GLOW_LAYERS = new RenderLayer[SLOTS];
+
+    static {
+        for (int variant = 0; variant < VARIANTS; variant++) {
+            String baseName = VARIANT_BASE_NAMES[variant];
+            for (Phase phase : Phase.values()) {
+                for (int frame = 0; frame < PULSE_FRAMES; frame++) {
+                    String name = switch (phase) {
+                        case IDLE -> baseName;                       // Dim runes
+                        case PULSE -> baseName + "_pulse_" + frame;  // Accelerating rune pulse
+                        case EYES_OPEN -> baseName + "_eyes_open";   // Eyes locked on the player
+                    };
+                    TEXTURES[slot(variant, phase, frame)] = Identifier.of("dread", "textures/entity/" + name + ".png");
+                }
+            }
+        }
+    }
+
+    private DreadTextureTable() {}
+
+    /**
+     * Get the table slot for a variant, phase and pulse frame.
+     * Unknown variants fall back to the base form; the frame is ignored outside PULSE.
+     *
+     * @param variant Form variant (0-2)
+     * @param phase Cinematic texture phase
+     * @param frame Pulse frame (0-2)
+     */
+    public static int slot(int variant, Phase phase, int frame) {
+        int v = variant >= 0 && variant < VARIANTS ? variant : 0;
+        int f = phase == Phase.PULSE ? Math.clamp(frame, 0, PULSE_FRAMES - 1) : 0;
+        return (v * PHASES + phase.ordinal()) * PULSE_FRAMES + f;
+    }
+
+    /**
+     * Get the form variant a slot belongs to.
+     */
+    public static int getVariant(int slot) {
+        return slot / (PHASES * PULSE_FRAMES);
+    }
+
+    /**
+     * Get the albedo texture for a slot.
+     */
+    public static Identifier getTexture(int slot) {
+        return TEXTURES[slot];
+    }
+
+    /**
+     * Get the emissive render layer for a slot's _glowmask texture.
+     * Must be called on the render thread.
+     */
+    public static RenderLayer getGlowLayer(int slot) {
+        RenderLayer layer = GLOW_LAYERS[slot];
+        if (layer == null) {
+            layer = AutoGlowingTexture.getRenderType(TEXTURES[slot]);
+            GLOW_LAYERS[slot] = layer;
+        }
+        return layer;
+    }
+}
@@ -0,0 +1,150 @@
+package com.dread.client;
+
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderEvents;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Scales the cost of Dread client effects to the frame time the client is actually achieving.
+ * Keeps a rolling (exponentially weighted) frame-time average and steps between quality tiers
+ * with hysteresis: a tier is dropped when the average rises above its budget and only restored
+ * once the average has fallen well below the budget of the tier above, so the tier does not
+ * flap at the boundary.
+ *
+ * Tiers cover the downed blur radius and resolution, whether the HUD blood vignette is
+ * layered over the shader vignette, and blood/smoke particle density.
+ */
+public class EffectQualityGovernor {
+    private static final Logger LOGGER = LoggerFactory.getLogger("dread-client");
+
+    /**
+     * Effect quality tiers, best first.
+     */
+    public enum Tier {
+        HIGH(1.0f, false, true, 1.0f),
+        MEDIUM(0.6f, true, true, 0.5f),
+        LOW(0.35f, true, false, 0.25f);
+
+        private final float blurRadiusScale;
+        private final boolean halfResolutionBlur;
+        private final boolean layeredVignettes;
+        private final float particleDensity;
+
+        Tier(float blurRadiusScale, boolean halfResolutionBlur, boolean layeredVignettes, float particleDensity) {
+            this.blurRadiusScale = blurRadiusScale;
+            this.halfResolutionBlur = halfResolutionBlur;
+            this.layeredVignettes = layeredVignettes;
+            this.particleDensity = particleDensity;
+        }
+
+        /**
+         * Multiplier for the downed blur radius (1.0 = full 8-texel radius).
+         */
+        public float getBlurRadiusScale() {
+            return blurRadiusScale;
+        }
+
+        /**
+         * Whether the downed blur runs on a half-resolution copy of the scene.
+         */
+        public boolean hasHalfResolutionBlur() {
+            return halfResolutionBlur;
+        }
+
+        /**
+         * Whether the HUD blood vignette is drawn on top of the shader vignette.
+         */
+        public boolean hasLayeredVignettes() {
+            return layeredVignettes;
+        }
+
+        /**
+         * Multiplier for client-side particle counts.
+         */
+        public float getParticleDensity() {
+            return particleDensity;
+        }
+    }
+
+    private static final float DOWNGRADE_FRAME_MS = 1000.0f / 40.0f;  // Drop a tier below ~40 FPS
+    private static final float UPGRADE_FRAME_MS = 1000.0f / 55.0f;    // Restore a tier above ~55 FPS
+    private static final float AVERAGE_WEIGHT = 0.05f;                // ~20 frame rolling window
+    private static final long MIN_DWELL_NANOS = 2_000_000_000L;       // 2 seconds between tier changes
+    private static final long MAX_SAMPLE_NANOS = 250_000_000L;        // Ignore stalls (loading, window drag)
+
+    private static Tier tier = Tier.HIGH;
+    private static float averageFrameMs = 0.0f;
+    private static long lastFrameNanos = 0;
+    private static long lastChangeNanos = 0;
+
+    /**
+     * Register the per-frame sampler and disconnect reset.
+     * Call this from DreadClient.onInitializeClient() before the effect renderers.
+     */
+    public static void register() {
+        WorldRenderEvents.START.register(context -> onFrame(System.nanoTime()));
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> reset());
+    }
+
+    /**
+     * Get the current effect quality tier.
+     */
+    public static Tier getTier() {
+        return tier;
+    }
+
+    /**
+     * Get the rolling frame-time average in milliseconds (for debugging).
+     */
+    public static float getAverageFrameMs() {
+        return averageFrameMs;
+    }
+
+    /**
+     * Scale a particle count by the current tier, keeping at least one particle.
+     */
+    public static int scaleParticleCount(int count) {
+        return Math.max(1, Math.round(count * tier.getParticleDensity()));
+    }
+
+    private static void onFrame(long now) {
+        long previous = lastFrameNanos;
+        lastFrameNanos = now;
+        if (previous == 0) {
+            lastChangeNanos = now;
+            return;
+        }
+
+        long delta = now - previous;
+        if (delta <= 0 || delta > MAX_SAMPLE_NANOS) return;
+
+        float frameMs = delta / 1_000_000.0f;
+        averageFrameMs = averageFrameMs == 0.0f
+            ? frameMs
+            : averageFrameMs + (frameMs - averageFrameMs) * AVERAGE_WEIGHT;
+
+        if (now - lastChangeNanos < MIN_DWELL_NANOS) return;
+
+        int ordinal = tier.ordinal();
+        if (averageFrameMs > DOWNGRADE_FRAME_MS && ordinal < Tier.LOW.ordinal()) {
+            setTier(Tier.values()[ordinal + 1], now);
+        } else if (averageFrameMs < UPGRADE_FRAME_MS && ordinal > Tier.HIGH.ordinal()) {
+            setTier(Tier.values()[ordinal - 1], now);
+        }
+    }
+
+    private static void setTier(Tier newTier, long now) {
+        LOGGER.debug("Effect quality {} -> {} (average frame {} ms)",
+            tier, newTier, String.format("%.1f", averageFrameMs));
+        tier = newTier;
+        lastChangeNanos = now;
+    }
+
+    private static void reset() {
+        tier = Tier.HIGH;
+        averageFrameMs = 0.0f;
+        lastFrameNanos = 0;
+        lastChangeNanos = 0;
+    }
+}
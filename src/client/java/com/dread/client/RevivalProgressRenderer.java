@@ -14,7 +14,6 @@ import org.joml.Matrix4f;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * Renders world-space progress bar above downed players during revival.
@@ -22,12 +21,12 @@ import java.util.UUID;
  */
 public class RevivalProgressRenderer {
 
-    private static final Map<UUID, RevivalProgressData> activeRevivals = new HashMap<>();
+    private static final Map<Integer, RevivalProgressData> activeRevivals = new HashMap<>();
     private static final float BAR_WIDTH = 1.0f;
     private static final float BAR_HEIGHT = 0.1f;
     private static final float Y_OFFSET = 2.5f; // Above player's head
     private static final int MAX_RENDER_DISTANCE = 16;
-    private static final long STALE_THRESHOLD_MS = 2000; // 2 seconds without update
+    private static final long STALE_GRACE_TICKS = 40; // Drop bars 2 seconds past their end if no end packet arrives
 
     /**
      * Register with WorldRenderEvents.AFTER_ENTITIES during client initialization.
@@ -37,13 +36,15 @@ public class RevivalProgressRenderer {
     }
 
     /**
-     * Update revival progress from network packet.
+     * Start or end a revival bar from network packet.
+     * The start packet is sent the tick a revival begins, so the bar starts at the client's world time.
      */
-    public static void updateRevivalProgress(UUID downedPlayerUUID, boolean active, float progress) {
-        if (active) {
-            activeRevivals.put(downedPlayerUUID, new RevivalProgressData(progress, System.currentTimeMillis()));
+    public static void updateRevivalProgress(int downedEntityId, boolean active, int durationTicks) {
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (active && client.world != null) {
+            activeRevivals.put(downedEntityId, new RevivalProgressData(client.world.getTime(), durationTicks));
         } else {
-            activeRevivals.remove(downedPlayerUUID);
+            activeRevivals.remove(downedEntityId);
         }
     }
 
@@ -54,31 +55,25 @@ public class RevivalProgressRenderer {
         MinecraftClient client = context.gameRenderer().getClient();
         if (client.world == null) return;
 
+        // Interpolate from client world time - server only sends start/end
+        float now = client.world.getTime() + context.tickCounter().getTickDelta(false);
+
         // Clean up stale entries
-        cleanupStaleEntries();
+        cleanupStaleEntries(client.world.getTime());
 
         // Render each active revival
-        for (Map.Entry<UUID, RevivalProgressData> entry : activeRevivals.entrySet()) {
-            UUID downedPlayerUUID = entry.getKey();
+        for (Map.Entry<Integer, RevivalProgressData> entry : activeRevivals.entrySet()) {
             RevivalProgressData data = entry.getValue();
 
             // Find the downed player entity
-            PlayerEntity downedPlayer = null;
-            for (PlayerEntity player : client.world.getPlayers()) {
-                if (player.getUuid().equals(downedPlayerUUID)) {
-                    downedPlayer = player;
-                    break;
-                }
-            }
-
-            if (downedPlayer == null) continue;
+            if (!(client.world.getEntityById(entry.getKey()) instanceof PlayerEntity downedPlayer)) continue;
 
             // Check render distance
             double distance = client.player.squaredDistanceTo(downedPlayer);
             if (distance > MAX_RENDER_DISTANCE * MAX_RENDER_DISTANCE) continue;
 
             // Render progress bar
-            renderProgressBar(context, downedPlayer, data.progress);
+            renderProgressBar(context, downedPlayer, data.getProgress(now));
         }
     }
 
@@ -155,15 +150,14 @@ public class RevivalProgressRenderer {
     }
 
     /**
-     * Remove entries older than 2 seconds (no update received).
+     * Remove entries well past their end (end packet missed, e.g. walked out of range).
      */
-    private static void cleanupStaleEntries() {
-        long currentTime = System.currentTimeMillis();
-        Iterator<Map.Entry<UUID, RevivalProgressData>> iter = activeRevivals.entrySet().iterator();
+    private static void cleanupStaleEntries(long worldTime) {
+        Iterator<Map.Entry<Integer, RevivalProgressData>> iter = activeRevivals.entrySet().iterator();
 
         while (iter.hasNext()) {
-            Map.Entry<UUID, RevivalProgressData> entry = iter.next();
-            if (currentTime - entry.getValue().lastUpdateTime > STALE_THRESHOLD_MS) {
+            RevivalProgressData data = iter.next().getValue();
+            if (worldTime > data.startTick + data.durationTicks + STALE_GRACE_TICKS) {
                 iter.remove();
             }
         }
@@ -173,12 +167,17 @@ public class RevivalProgressRenderer {
      * Data holder for revival progress.
      */
     private static class RevivalProgressData {
-        float progress;
-        long lastUpdateTime;
+        final long startTick;
+        final int durationTicks;
+
+        RevivalProgressData(long startTick, int durationTicks) {
+            this.startTick = startTick;
+            this.durationTicks = durationTicks;
+        }
 
-        RevivalProgressData(float progress, long lastUpdateTime) {
-            this.progress = progress;
-            this.lastUpdateTime = lastUpdateTime;
+        float getProgress(float worldTime) {
+            if (durationTicks <= 0) return 1.0f;
+            return Math.max(0.0f, Math.min(1.0f, (worldTime - startTick) / durationTicks));
         }
     }
 }
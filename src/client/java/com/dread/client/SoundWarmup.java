@@ -0,0 +1,119 @@
+package com.dread.client;
+
+import com.dread.config.DreadConfigLoader;
+import com.dread.mixin.SoundManagerAccessor;
+import com.dread.mixin.SoundSystemAccessor;
+import com.dread.mixin.StaticSoundAccessor;
+import com.dread.mixin.WeightedSoundSetAccessor;
+import com.dread.sound.ModSounds;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.sound.Sound;
+import net.minecraft.client.sound.SoundContainer;
+import net.minecraft.client.sound.SoundLoader;
+import net.minecraft.client.sound.WeightedSoundSet;
+import net.minecraft.sound.SoundEvent;
+import net.minecraft.util.Identifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes the short, non-streamed Dread clips into the vanilla static sound cache on world join,
+ * so the first jump scare plays without a decode hitch. Clips are decoded one at a time in
+ * priority order until the configured memory budget is reached; streamed entries (the ambient
+ * drones) are skipped. Decode time and PCM size are logged per clip.
+ */
+public class SoundWarmup {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SoundWarmup.class);
+
+    // Warm-up order - the clips that must be instant come first
+    private static final List<SoundEvent> WARMUP_EVENTS = List.of(
+        ModSounds.DREAD_JUMPSCARE,
+        ModSounds.GRAB_IMPACT,
+        ModSounds.DREAD_DEATH,
+        ModSounds.DREAD_PROXIMITY,
+        ModSounds.DANGER_RISING
+    );
+
+    /**
+     * Register the join hook.
+     */
+    public static void register() {
+        ClientPlayConnectionEvents.JOIN.register((handler, sender, client) -> start(client));
+    }
+
+    private static void start(MinecraftClient client) {
+        long budgetBytes = DreadConfigLoader.getConfig().soundWarmupBudgetKb * 1024L;
+        if (budgetBytes <= 0) return;
+
+        SoundLoader loader = ((SoundSystemAccessor) ((SoundManagerAccessor) client.getSoundManager())
+            .dread$getSoundSystem()).dread$getSoundLoader();
+
+        Map<Identifier, Sound> clips = new LinkedHashMap<>();
+        for (SoundEvent event : WARMUP_EVENTS) {
+            WeightedSoundSet set = client.getSoundManager().get(event.getId());
+            if (set != null) {
+                collectStaticClips(set, clips);
+            }
+        }
+
+        warmNext(client, loader, new ArrayList<>(clips.values()), 0, budgetBytes, 0L, System.nanoTime());
+    }
+
+    private static void collectStaticClips(WeightedSoundSet set, Map<Identifier, Sound> out) {
+        for (SoundContainer<Sound> entry : ((WeightedSoundSetAccessor) set).dread$getSounds()) {
+            if (entry instanceof Sound sound) {
+                if (!sound.isStreamed()) {
+                    out.putIfAbsent(sound.getLocation(), sound);
+                }
+            } else if (entry instanceof WeightedSoundSet nested) {
+                collectStaticClips(nested, out);
+            }
+        }
+    }
+
+    /**
+     * Decode one clip, then continue with the next on the client thread (the loader cache is not thread-safe).
+     */
+    private static void warmNext(MinecraftClient client, SoundLoader loader, List<Sound> clips, int index,
+                                 long budgetBytes, long usedBytes, long startNanos) {
+        if (index >= clips.size()) {
+            LOGGER.info("Sound warm-up finished: {} clips, {} KB in {} ms",
+                clips.size(), usedBytes / 1024, (System.nanoTime() - startNanos) / 1_000_000);
+            return;
+        }
+
+        Sound clip = clips.get(index);
+        long clipStart = System.nanoTime();
+
+        loader.loadStatic(clip.getLocation()).whenComplete((staticSound, error) -> client.execute(() -> {
+            double millis = (System.nanoTime() - clipStart) / 1_000_000.0;
+            long used = usedBytes;
+
+            if (error != null) {
+                LOGGER.warn("Sound warm-up failed for {} after {} ms", clip.getLocation(), String.format("%.1f", millis), error);
+            } else {
+                // Already-uploaded clips have released their buffer and cost nothing here
+                ByteBuffer sample = ((StaticSoundAccessor) staticSound).dread$getSample();
+                long bytes = sample != null ? sample.remaining() : 0;
+                used += bytes;
+                LOGGER.info("Warmed {} ({} KB) in {} ms", clip.getLocation(), bytes / 1024, String.format("%.1f", millis));
+            }
+
+            if (used >= budgetBytes && index + 1 < clips.size()) {
+                LOGGER.info("Sound warm-up stopped at {} KB budget, {} clips left to lazy loading",
+                    budgetBytes / 1024, clips.size() - index - 1);
+                return;
+            }
+
+            warmNext(client, loader, clips, index + 1, budgetBytes, used, startNanos);
+        }));
+    }
+}
@@ -0,0 +1,166 @@
+package com.dread.client;
+
+import com.dread.entity.DreadEntity;
+import com.dread.network.packets.JumpScareS2C;
+import com.dread.network.packets.TensionUpdateS2C;
+import com.dread.sound.ModSounds;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.sound.SoundCategory;
+import net.minecraft.sound.SoundEvent;
+import net.minecraft.util.math.random.Random;
+
+/**
+ * Client-side procedural tension soundscape.
+ * The server only replicates ambient and danger tension (TensionUpdateS2C); this director
+ * chooses, layers and positions the ambient drones, danger rising cues and distant whispers locally.
+ * Volume drops near Dread entities (unnatural silence). Everything stays quiet during the
+ * suppression window a jump scare opens (JumpScareS2C).
+ */
+public class TensionSoundDirector {
+
+    private static final int AMBIENT_INTERVAL_BASE = 400; // 20 seconds base
+    private static final int AMBIENT_INTERVAL_VARIANCE = 200; // +/- 10 seconds
+    private static final int DANGER_CHECK_INTERVAL = 100; // Every 5 seconds
+    private static final float WHISPER_THRESHOLD = 0.6f; // Whispers layer over drones at high tension
+    private static final double SILENCE_RADIUS = 8.0;
+
+    private static final Random RANDOM = Random.create();
+
+    private static float tension = 0.0f;        // Ambient tension (mining and day)
+    private static float dangerIntensity = 0.0f; // 0 while on spawn cooldown or chance negligible
+    private static long jumpScareUntil = 0;      // Client world tick the jump scare window ends at
+    private static int ambientCooldown = AMBIENT_INTERVAL_BASE;
+    private static int dangerCooldown = DANGER_CHECK_INTERVAL;
+
+    /**
+     * Register client tick director and disconnect cleanup.
+     */
+    public static void register() {
+        ClientTickEvents.END_CLIENT_TICK.register(TensionSoundDirector::tick);
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> {
+            tension = 0.0f;
+            dangerIntensity = 0.0f;
+            jumpScareUntil = 0;
+            ambientCooldown = AMBIENT_INTERVAL_BASE;
+            dangerCooldown = DANGER_CHECK_INTERVAL;
+        });
+    }
+
+    /**
+     * Update tension from network packet.
+     */
+    public static void onTensionUpdate(TensionUpdateS2C payload) {
+        tension = payload.ambient();
+        dangerIntensity = payload.danger();
+    }
+
+    /**
+     * Open the jump scare suppression window from network packet.
+     */
+    public static void onJumpScare(JumpScareS2C payload) {
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client.world == null) return;
+        jumpScareUntil = Math.max(jumpScareUntil, client.world.getTime() + payload.durationTicks());
+    }
+
+    /**
+     * Get the last replicated ambient tension value (0.0 to 1.0).
+     */
+    public static float getTension() {
+        return tension;
+    }
+
+    /**
+     * Whether a jump scare suppression window is open.
+     * Also used by DreadProximitySoundInstance to mute proximity loops.
+     */
+    public static boolean isJumpScareActive() {
+        ClientWorld world = MinecraftClient.getInstance().world;
+        return world != null && world.getTime() < jumpScareUntil;
+    }
+
+    private static void tick(MinecraftClient client) {
+        ClientPlayerEntity player = client.player;
+        if (player == null || client.world == null || client.isPaused()) return;
+
+        // The cinematic and downed state have their own audio
+        if (DeathCinematicClientHandler.isCinematicActive() || DownedStateClientHandler.isDownedEffectActive()) {
+            return;
+        }
+
+        // Jump scare owns the soundscape for its window (cadence keeps running)
+        boolean suppressed = isJumpScareActive();
+
+        if (--dangerCooldown <= 0) {
+            dangerCooldown = DANGER_CHECK_INTERVAL;
+            if (!suppressed && dangerIntensity > 0.0f && RANDOM.nextFloat() < 0.3f) {
+                playDangerRising(client.world, player);
+            }
+        }
+
+        if (--ambientCooldown <= 0) {
+            ambientCooldown = AMBIENT_INTERVAL_BASE +
+                RANDOM.nextBetween(-AMBIENT_INTERVAL_VARIANCE, AMBIENT_INTERVAL_VARIANCE);
+
+            // Higher tension = more likely to play ambient
+            if (!suppressed && RANDOM.nextFloat() < tension * 0.5f) {
+                playAmbientDrone(client.world, player);
+
+                if (tension >= WHISPER_THRESHOLD && RANDOM.nextFloat() < 0.25f) {
+                    playDistantWhispers(client.world, player);
+                }
+            }
+        }
+    }
+
+    /**
+     * Ambient drone at the player, quieter near a Dread.
+     */
+    private static void playAmbientDrone(ClientWorld world, ClientPlayerEntity player) {
+        boolean dreadNearby = !world.getEntitiesByClass(
+            DreadEntity.class,
+            player.getBoundingBox().expand(SILENCE_RADIUS),
+            e -> true
+        ).isEmpty();
+
+        float volume;
+        if (dreadNearby) {
+            // Unnatural silence - very quiet ambient
+            volume = 0.05f + (RANDOM.nextFloat() * 0.1f);
+        } else {
+            // Normal ambient based on tension
+            volume = 0.2f + (tension * 0.3f);
+        }
+
+        play(world, player.getX(), player.getY(), player.getZ(), ModSounds.DREAD_AMBIENT,
+            volume, 0.9f + RANDOM.nextFloat() * 0.2f);
+    }
+
+    /**
+     * Danger rising indicator, louder and higher as spawn danger grows.
+     */
+    private static void playDangerRising(ClientWorld world, ClientPlayerEntity player) {
+        play(world, player.getX(), player.getY(), player.getZ(), ModSounds.DANGER_RISING,
+            0.1f + (dangerIntensity * 0.4f), 0.9f + (dangerIntensity * 0.2f));
+    }
+
+    /**
+     * Distant whispers from a random direction.
+     */
+    private static void playDistantWhispers(ClientWorld world, ClientPlayerEntity player) {
+        double offsetX = RANDOM.nextBetween(-15, 15);
+        double offsetZ = RANDOM.nextBetween(-15, 15);
+
+        play(world, player.getX() + offsetX, player.getY(), player.getZ() + offsetZ, ModSounds.DREAD_AMBIENT,
+            0.15f, 0.6f + RANDOM.nextFloat() * 0.2f); // Lower pitch = more ominous
+    }
+
+    private static void play(ClientWorld world, double x, double y, double z, SoundEvent sound,
+                             float volume, float pitch) {
+        world.playSound(x, y, z, sound, SoundCategory.AMBIENT, volume, pitch, false);
+    }
+}
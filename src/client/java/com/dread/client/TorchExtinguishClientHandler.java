@@ -0,0 +1,100 @@
+package com.dread.client;
+
+import com.dread.network.packets.TorchExtinguishS2C;
+import com.dread.world.ExtinguishService;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.particle.ParticleTypes;
+import net.minecraft.sound.SoundCategory;
+import net.minecraft.sound.SoundEvents;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.random.Random;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Client-side smoke and sound for extinguished torches.
+ * The server removes torches in per-section batches; this handler restores the
+ * one-at-a-time horror pacing by giving every torch its own random delay
+ * within the batch window before its smoke puff and fizz play.
+ */
+public class TorchExtinguishClientHandler {
+
+    private static final List<ScheduledPuff> scheduled = new ArrayList<>();
+    private static final Random RANDOM = Random.create();
+
+    /**
+     * Register client tick event for scheduled puffs.
+     */
+    public static void register() {
+        ClientTickEvents.END_CLIENT_TICK.register(client -> tick(client));
+    }
+
+    /**
+     * Schedule effects for a batch of extinguished torches.
+     */
+    public static void onExtinguished(TorchExtinguishS2C payload) {
+        for (BlockPos pos : payload.positions()) {
+            int delay = RANDOM.nextInt(ExtinguishService.FLUSH_INTERVAL_TICKS);
+            scheduled.add(new ScheduledPuff(pos, delay));
+        }
+    }
+
+    private static void tick(MinecraftClient client) {
+        if (scheduled.isEmpty()) return;
+
+        ClientWorld world = client.world;
+        if (world == null) {
+            scheduled.clear();
+            return;
+        }
+
+        Iterator<ScheduledPuff> iter = scheduled.iterator();
+        while (iter.hasNext()) {
+            ScheduledPuff puff = iter.next();
+            if (--puff.ticksRemaining > 0) continue;
+
+            iter.remove();
+            playPuff(world, puff.pos);
+        }
+    }
+
+    /**
+     * Smoke particles (scaled by effect quality) and a quiet fizz where the torch used to be.
+     */
+    private static void playPuff(ClientWorld world, BlockPos pos) {
+        double x = pos.getX() + 0.5;
+        double y = pos.getY() + 0.5;
+        double z = pos.getZ() + 0.5;
+
+        int smokeCount = EffectQualityGovernor.scaleParticleCount(5);
+        for (int i = 0; i < smokeCount; i++) {
+            world.addParticle(
+                ParticleTypes.LARGE_SMOKE,
+                x + RANDOM.nextGaussian() * 0.1,
+                y + RANDOM.nextGaussian() * 0.1,
+                z + RANDOM.nextGaussian() * 0.1,
+                0.0, 0.02, 0.0
+            );
+        }
+
+        world.playSound(x, y, z, SoundEvents.BLOCK_FIRE_EXTINGUISH, SoundCategory.BLOCKS,
+            0.25f, 1.6f + RANDOM.nextFloat() * 0.4f, false);
+    }
+
+    /**
+     * A torch waiting for its smoke puff.
+     */
+    private static class ScheduledPuff {
+        final BlockPos pos;
+        int ticksRemaining;
+
+        ScheduledPuff(BlockPos pos, int ticksRemaining) {
+            this.pos = pos;
+            this.ticksRemaining = ticksRemaining;
+        }
+    }
+}
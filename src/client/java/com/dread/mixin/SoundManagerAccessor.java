@@ -0,0 +1,16 @@
+package com.dread.mixin;
+
+import net.minecraft.client.sound.SoundManager;
+import net.minecraft.client.sound.SoundSystem;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Exposes the sound system for the join-time sound warm-up.
+ */
+@Mixin(SoundManager.class)
+public interface SoundManagerAccessor {
+
+    @Accessor("soundSystem")
+    SoundSystem dread$getSoundSystem();
+}
@@ -0,0 +1,16 @@
+package com.dread.mixin;
+
+import net.minecraft.client.sound.SoundLoader;
+import net.minecraft.client.sound.SoundSystem;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Exposes the static sound cache for the join-time sound warm-up.
+ */
+@Mixin(SoundSystem.class)
+public interface SoundSystemAccessor {
+
+    @Accessor("soundLoader")
+    SoundLoader dread$getSoundLoader();
+}
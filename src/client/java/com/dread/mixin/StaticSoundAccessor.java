@@ -0,0 +1,17 @@
+package com.dread.mixin;
+
+import net.minecraft.client.sound.StaticSound;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Exposes the decoded PCM buffer so the warm-up can account for its size.
+ */
+@Mixin(StaticSound.class)
+public interface StaticSoundAccessor {
+
+    @Accessor("sample")
+    ByteBuffer dread$getSample();
+}
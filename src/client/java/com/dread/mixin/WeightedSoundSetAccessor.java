@@ -0,0 +1,19 @@
+package com.dread.mixin;
+
+import net.minecraft.client.sound.Sound;
+import net.minecraft.client.sound.SoundContainer;
+import net.minecraft.client.sound.WeightedSoundSet;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+import java.util.List;
+
+/**
+ * Exposes the entries of a sound event so the warm-up can find its non-streamed clips.
+ */
+@Mixin(WeightedSoundSet.class)
+public interface WeightedSoundSetAccessor {
+
+    @Accessor("sounds")
+    List<SoundContainer<Sound>> dread$getSounds();
+}
@@ -1,15 +1,24 @@
 package com.dread;
 
+import com.dread.cinematic.CinematicTimelines;
+import com.dread.command.DreadCommands;
 import com.dread.config.DreadConfigLoader;
 import com.dread.death.AttackPreventionHandler;
 import com.dread.death.DeathCinematicController;
 import com.dread.death.DreadDeathHandler;
 import com.dread.death.DreadDeathManager;
 import com.dread.death.PlayerConnectionHandler;
+import com.dread.network.DreadNetMetrics;
 import com.dread.network.DreadNetworking;
 import com.dread.registry.ModEntities;
+import com.dread.sound.DreadSoundManager;
 import com.dread.sound.ModSounds;
+import com.dread.spawn.DreadHibernationManager;
+import com.dread.spawn.DreadPopulationRegistry;
 import com.dread.spawn.DreadSpawnManager;
+import com.dread.spawn.DreadSpawnQueue;
+import com.dread.world.ExtinguishService;
+import com.dread.world.ExtinguishableBlocks;
 import net.fabricmc.api.ModInitializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,14 +35,23 @@ public class DreadMod implements ModInitializer {
         DreadConfigLoader.load();
 
         ModSounds.register();
+        DreadSoundManager.register();
         ModEntities.register();
+        DreadPopulationRegistry.register();
         DreadSpawnManager.register();
+        DreadSpawnQueue.register();
+        DreadHibernationManager.register();
+        ExtinguishableBlocks.register();
+        ExtinguishService.register();
         DreadNetworking.registerPackets();
+        DreadNetMetrics.register();
+        CinematicTimelines.register();
         DreadDeathHandler.register();
         DreadDeathManager.register();
         DeathCinematicController.register();
         AttackPreventionHandler.register();
         PlayerConnectionHandler.register();
+        DreadCommands.register();
         LOGGER.info("Dread mod initialized successfully");
     }
 }
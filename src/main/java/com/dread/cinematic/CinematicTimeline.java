@@ -0,0 +1,150 @@
+package com.dread.cinematic;
+
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.util.Identifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data-driven description of a cinematic, loaded from data/<namespace>/cinematics/<name>.json.
+ * The server uses it for Dread placement and vanish timing; clients receive a copy on join
+ * and evaluate camera, texture phases and shake cues from world time, so neither side
+ * carries its own timing constants.
+ *
+ * @param id Timeline id (e.g. dread:death_grab)
+ * @param durationTicks Total length of the camera lock
+ * @param vanishTick Tick at which the Dread starts vanishing
+ * @param faceDistance Blocks in front of the player the Dread is placed
+ * @param lookHeight Fraction of the Dread's height the camera looks at
+ * @param lerpSpeed Per-tick camera interpolation factor toward the look target
+ * @param pitchClamp Maximum absolute camera pitch in degrees
+ * @param texturePhases Texture phases ordered by start tick
+ * @param shakeCues Camera shake cues ordered by tick
+ */
+public record CinematicTimeline(
+    Identifier id,
+    int durationTicks,
+    int vanishTick,
+    float faceDistance,
+    float lookHeight,
+    float lerpSpeed,
+    float pitchClamp,
+    List<TexturePhase> texturePhases,
+    List<ShakeCue> shakeCues
+) {
+
+    public static final Identifier DEATH_GRAB = Identifier.of("dread", "death_grab");
+
+    /**
+     * Built-in fallback matching the shipped death_grab.json, used if the resource is missing or broken.
+     */
+    public static final CinematicTimeline DEFAULT_DEATH_GRAB = new CinematicTimeline(
+        DEATH_GRAB, 120, 100, 1.5f, 0.7f, 0.1f, 80.0f,
+        List.of(new TexturePhase(0, Phase.PULSE), new TexturePhase(24, Phase.EYES_OPEN)),
+        List.of()
+    );
+
+    /**
+     * Texture phase shown by the Dread during the cinematic.
+     */
+    public enum Phase {
+        IDLE,      // Dim runes
+        PULSE,     // Accelerating rune pulse
+        EYES_OPEN; // Eyes locked on the player
+
+        public static Phase byName(String name) {
+            for (Phase phase : values()) {
+                if (phase.name().equalsIgnoreCase(name)) return phase;
+            }
+            throw new IllegalArgumentException("Unknown texture phase: " + name);
+        }
+    }
+
+    /**
+     * A texture phase starting at a given tick.
+     */
+    public record TexturePhase(int startTick, Phase phase) {}
+
+    /**
+     * A camera shake impulse at a given tick.
+     */
+    public record ShakeCue(int tick, float intensity) {}
+
+    public static final PacketCodec<RegistryByteBuf, CinematicTimeline> PACKET_CODEC = PacketCodec.of(
+        CinematicTimeline::write,
+        CinematicTimeline::read
+    );
+
+    /**
+     * Get the texture phase active at a cinematic tick.
+     */
+    public Phase phaseAt(int tick) {
+        Phase current = Phase.IDLE;
+        for (TexturePhase texturePhase : texturePhases) {
+            if (tick < texturePhase.startTick()) break;
+            current = texturePhase.phase();
+        }
+        return current;
+    }
+
+    /**
+     * Get the start tick of the phase active at a cinematic tick.
+     */
+    public int phaseStartAt(int tick) {
+        int start = 0;
+        for (TexturePhase texturePhase : texturePhases) {
+            if (tick < texturePhase.startTick()) break;
+            start = texturePhase.startTick();
+        }
+        return start;
+    }
+
+    private void write(RegistryByteBuf buf) {
+        buf.writeIdentifier(id);
+        buf.writeVarInt(durationTicks);
+        buf.writeVarInt(vanishTick);
+        buf.writeFloat(faceDistance);
+        buf.writeFloat(lookHeight);
+        buf.writeFloat(lerpSpeed);
+        buf.writeFloat(pitchClamp);
+
+        buf.writeVarInt(texturePhases.size());
+        for (TexturePhase texturePhase : texturePhases) {
+            buf.writeVarInt(texturePhase.startTick());
+            buf.writeEnumConstant(texturePhase.phase());
+        }
+
+        buf.writeVarInt(shakeCues.size());
+        for (ShakeCue cue : shakeCues) {
+            buf.writeVarInt(cue.tick());
+            buf.writeFloat(cue.intensity());
+        }
+    }
+
+    private static CinematicTimeline read(RegistryByteBuf buf) {
+        Identifier id = buf.readIdentifier();
+        int duration = buf.readVarInt();
+        int vanish = buf.readVarInt();
+        float faceDistance = buf.readFloat();
+        float lookHeight = buf.readFloat();
+        float lerpSpeed = buf.readFloat();
+        float pitchClamp = buf.readFloat();
+
+        int phaseCount = buf.readVarInt();
+        List<TexturePhase> phases = new ArrayList<>(phaseCount);
+        for (int i = 0; i < phaseCount; i++) {
+            phases.add(new TexturePhase(buf.readVarInt(), buf.readEnumConstant(Phase.class)));
+        }
+
+        int cueCount = buf.readVarInt();
+        List<ShakeCue> cues = new ArrayList<>(cueCount);
+        for (int i = 0; i < cueCount; i++) {
+            cues.add(new ShakeCue(buf.readVarInt(), buf.readFloat()));
+        }
+
+        return new CinematicTimeline(id, duration, vanish, faceDistance, lookHeight, lerpSpeed, pitchClamp,
+            List.copyOf(phases), List.copyOf(cues));
+    }
+}
@@ -0,0 +1,149 @@
+package com.dread.cinematic;
+
+import com.dread.DreadMod;
+import com.dread.cinematic.CinematicTimeline.Phase;
+import com.dread.cinematic.CinematicTimeline.ShakeCue;
+import com.dread.cinematic.CinematicTimeline.TexturePhase;
+import com.dread.network.DreadNetworking;
+import com.dread.network.packets.CinematicTimelinesS2C;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.minecraft.resource.Resource;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.resource.ResourceType;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.JsonHelper;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Server-side registry of cinematic timelines loaded from data/<namespace>/cinematics/*.json.
+ * Reloaded with data packs and synced to every client on join and after each reload.
+ */
+public class CinematicTimelines {
+
+    private static final String DIRECTORY = "cinematics";
+
+    private static Map<Identifier, CinematicTimeline> timelines = defaults();
+
+    /**
+     * Register the data reload listener and client sync hooks.
+     * Call this from DreadMod.onInitialize() after DreadNetworking.
+     */
+    public static void register() {
+        ResourceManagerHelper.get(ResourceType.SERVER_DATA).registerReloadListener(new SimpleSynchronousResourceReloadListener() {
+            @Override
+            public Identifier getFabricId() {
+                return Identifier.of(DreadMod.MOD_ID, DIRECTORY);
+            }
+
+            @Override
+            public void reload(ResourceManager manager) {
+                load(manager);
+            }
+        });
+
+        ServerPlayConnectionEvents.JOIN.register((handler, sender, server) ->
+            DreadNetworking.send(handler.getPlayer(), createSyncPayload()));
+
+        ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resourceManager, success) -> {
+            if (!success) return;
+            CinematicTimelinesS2C payload = createSyncPayload();
+            for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
+                DreadNetworking.send(player, payload);
+            }
+        });
+    }
+
+    /**
+     * Get a timeline by id, falling back to the built-in death grab timeline.
+     */
+    public static CinematicTimeline get(Identifier id) {
+        return timelines.getOrDefault(id, CinematicTimeline.DEFAULT_DEATH_GRAB);
+    }
+
+    /**
+     * Build the payload that syncs every loaded timeline to a client.
+     */
+    public static CinematicTimelinesS2C createSyncPayload() {
+        return new CinematicTimelinesS2C(List.copyOf(timelines.values()));
+    }
+
+    private static void load(ResourceManager manager) {
+        Map<Identifier, CinematicTimeline> loaded = defaults();
+
+        Map<Identifier, Resource> resources = manager.findResources(DIRECTORY, path -> path.getPath().endsWith(".json"));
+        for (Map.Entry<Identifier, Resource> entry : resources.entrySet()) {
+            Identifier file = entry.getKey();
+            String path = file.getPath();
+            Identifier id = Identifier.of(file.getNamespace(),
+                path.substring(DIRECTORY.length() + 1, path.length() - ".json".length()));
+
+            try (Reader reader = entry.getValue().getReader()) {
+                loaded.put(id, parse(id, JsonParser.parseReader(reader).getAsJsonObject()));
+            } catch (Exception e) {
+                DreadMod.LOGGER.error("Failed to load cinematic timeline {}", file, e);
+            }
+        }
+
+        timelines = loaded;
+        DreadMod.LOGGER.info("Loaded {} cinematic timelines", loaded.size());
+    }
+
+    private static CinematicTimeline parse(Identifier id, JsonObject json) {
+        CinematicTimeline fallback = CinematicTimeline.DEFAULT_DEATH_GRAB;
+        JsonObject camera = JsonHelper.getObject(json, "camera", new JsonObject());
+
+        List<TexturePhase> phases = new ArrayList<>();
+        for (JsonElement element : JsonHelper.getArray(json, "texture_phases", new JsonArray())) {
+            JsonObject phase = element.getAsJsonObject();
+            phases.add(new TexturePhase(
+                JsonHelper.getInt(phase, "start"),
+                Phase.byName(JsonHelper.getString(phase, "phase"))
+            ));
+        }
+        phases.sort(Comparator.comparingInt(TexturePhase::startTick));
+
+        List<ShakeCue> cues = new ArrayList<>();
+        for (JsonElement element : JsonHelper.getArray(json, "shake_cues", new JsonArray())) {
+            JsonObject cue = element.getAsJsonObject();
+            cues.add(new ShakeCue(
+                JsonHelper.getInt(cue, "tick"),
+                JsonHelper.getFloat(cue, "intensity", 1.0f)
+            ));
+        }
+        cues.sort(Comparator.comparingInt(ShakeCue::tick));
+
+        int duration = Math.max(1, JsonHelper.getInt(json, "duration"));
+
+        return new CinematicTimeline(
+            id,
+            duration,
+            Math.max(0, JsonHelper.getInt(json, "vanish_tick", duration)),
+            JsonHelper.getFloat(camera, "face_distance", fallback.faceDistance()),
+            JsonHelper.getFloat(camera, "look_height", fallback.lookHeight()),
+            JsonHelper.getFloat(camera, "lerp_speed", fallback.lerpSpeed()),
+            JsonHelper.getFloat(camera, "pitch_clamp", fallback.pitchClamp()),
+            List.copyOf(phases),
+            List.copyOf(cues)
+        );
+    }
+
+    private static Map<Identifier, CinematicTimeline> defaults() {
+        Map<Identifier, CinematicTimeline> map = new HashMap<>();
+        map.put(CinematicTimeline.DEATH_GRAB, CinematicTimeline.DEFAULT_DEATH_GRAB);
+        return map;
+    }
+}
@@ -0,0 +1,50 @@
+package com.dread.command;
+
+import com.dread.network.DreadNetMetrics;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+import net.minecraft.server.command.CommandManager;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.text.Text;
+
+/**
+ * Operator commands for inspecting Dread at runtime.
+ * /dread perf net - per payload type network cost
+ * /dread perf net start [seconds] - collect network metrics for a while (off by default)
+ */
+public class DreadCommands {
+
+    /**
+     * Register the /dread command tree.
+     * Call this from DreadMod.onInitialize().
+     */
+    public static void register() {
+        CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> registerDread(dispatcher));
+    }
+
+    private static void registerDread(CommandDispatcher<ServerCommandSource> dispatcher) {
+        dispatcher.register(CommandManager.literal("dread")
+            .requires(source -> source.hasPermissionLevel(2))
+            .then(CommandManager.literal("perf")
+                .then(CommandManager.literal("net")
+                    .executes(context -> {
+                        for (String line : DreadNetMetrics.formatReport()) {
+                            context.getSource().sendFeedback(() -> Text.literal(line), false);
+                        }
+                        return 1;
+                    })
+                    .then(CommandManager.literal("start")
+                        .executes(context -> startCapture(context.getSource(), DreadNetMetrics.DEFAULT_CAPTURE_SECONDS))
+                        .then(CommandManager.argument("seconds", IntegerArgumentType.integer(1, 3600))
+                            .executes(context -> startCapture(context.getSource(),
+                                IntegerArgumentType.getInteger(context, "seconds"))))))));
+    }
+
+    private static int startCapture(ServerCommandSource source, int seconds) {
+        DreadNetMetrics.startCapture(source.getServer(), seconds);
+        source.sendFeedback(() -> Text.literal("Collecting Dread network metrics for " + seconds
+            + "s - run /dread perf net to see the report"), true);
+        return 1;
+    }
+}
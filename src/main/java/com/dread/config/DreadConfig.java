@@ -23,6 +23,25 @@ public class DreadConfig {
     public int singleplayerDownedTimeout = 30;   // 30 seconds for singleplayer
     public int multiplayerDownedTimeout = 300;   // 300 seconds for multiplayer
 
+    // Hibernation of Dreads far from every player
+    public boolean hibernationEnabled = true;
+    public int hibernationDelaySeconds = 30;     // Seconds with no player in range before hibernating
+    public int hibernationRange = 64;            // Blocks - also the range at which sleepers wake up
+    public int hibernationMaxAgeMinutes = 20;    // Sleepers not woken within this are dropped (despawned)
+    public int maxHibernatingPerWorld = 16;      // Oldest sleepers are dropped beyond this per dimension
+
+    // Population budget (live Dread entities)
+    public int maxDreadsPerWorld = 6;            // Hard cap per dimension
+    public int maxDreadsPerRegion = 2;           // Cap within dreadRegionRadius of a spawn
+    public int dreadRegionRadius = 48;           // Blocks
+    public int maxSpawnsPerTick = 1;             // Queued Dread materializations executed per world tick
+
+    // Network metrics
+    public int netMetricsLogIntervalSeconds = 0; // 0 = off (use /dread perf net start)
+
+    // Client sound warm-up
+    public int soundWarmupBudgetKb = 8192;       // Decoded PCM budget for clips warmed on join (0 = off)
+
     // Documentation fields (appear as comments in JSON)
     @SerializedName("_comment_spawn")
     public final String comment1 = "baseSpawnChancePerSecond: Base probability per tick (0.005 = 0.5%). miningBonusPerBlock: Added per block mined. dayEscalationCap: Max world day for multiplier.";
@@ -38,4 +57,16 @@ public class DreadConfig {
 
     @SerializedName("_comment_timeouts")
     public final String comment5 = "singleplayerDownedTimeout: Seconds in downed state before death in singleplayer (normal respawn). multiplayerDownedTimeout: Seconds in multiplayer before permanent spectator.";
+
+    @SerializedName("_comment_hibernation")
+    public final String comment6 = "hibernationEnabled: Remove Dreads far from every player and restore them when someone returns. hibernationDelaySeconds: Seconds with no player within hibernationRange before a Dread hibernates. hibernationRange: Distance in blocks used for both hibernating and waking. hibernationMaxAgeMinutes: Hibernating Dreads not woken within this many minutes of world time despawn. maxHibernatingPerWorld: Maximum hibernating Dreads per dimension; the oldest despawn first.";
+
+    @SerializedName("_comment_population")
+    public final String comment7 = "maxDreadsPerWorld: Maximum live Dreads per dimension (glimpses included). maxDreadsPerRegion: Maximum live Dreads within dreadRegionRadius blocks of a new spawn. Spawns over budget become fake-outs. maxSpawnsPerTick: Queued Dread spawns materialized per tick (spreads spawn bursts across ticks).";
+
+    @SerializedName("_comment_net_metrics")
+    public final String comment8 = "netMetricsLogIntervalSeconds: Collect Dread network traffic per payload type and log it every N seconds (0 = off). Without it, metrics are only collected during a /dread perf net start capture window.";
+
+    @SerializedName("_comment_sound_warmup")
+    public final String comment9 = "soundWarmupBudgetKb: Memory budget in KB for short Dread clips (jump scare, grab, death, proximity) decoded on world join so the first jump scare does not hitch. Ambient drones stay streamed. 0 disables the warm-up.";
 }
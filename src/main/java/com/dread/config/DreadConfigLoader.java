@@ -62,6 +62,24 @@ public class DreadConfigLoader {
 
         // Clamp damage (0.0 to 100.0)
         instance.dreadAttackDamage = Math.max(0.0f, Math.min(100.0f, instance.dreadAttackDamage));
+
+        // Clamp hibernation (5s to 10 minutes, 24 to 256 blocks, 1 minute to 1 day, 1 to 256 sleepers)
+        instance.hibernationDelaySeconds = Math.max(5, Math.min(600, instance.hibernationDelaySeconds));
+        instance.hibernationRange = Math.max(24, Math.min(256, instance.hibernationRange));
+        instance.hibernationMaxAgeMinutes = Math.max(1, Math.min(1440, instance.hibernationMaxAgeMinutes));
+        instance.maxHibernatingPerWorld = Math.max(1, Math.min(256, instance.maxHibernatingPerWorld));
+
+        // Clamp population budget
+        instance.maxDreadsPerWorld = Math.max(1, Math.min(64, instance.maxDreadsPerWorld));
+        instance.maxDreadsPerRegion = Math.max(1, Math.min(instance.maxDreadsPerWorld, instance.maxDreadsPerRegion));
+        instance.dreadRegionRadius = Math.max(8, Math.min(256, instance.dreadRegionRadius));
+        instance.maxSpawnsPerTick = Math.max(1, Math.min(16, instance.maxSpawnsPerTick));
+
+        // Clamp network metrics log interval (0 = off, up to 1 hour)
+        instance.netMetricsLogIntervalSeconds = Math.max(0, Math.min(3600, instance.netMetricsLogIntervalSeconds));
+
+        // Clamp sound warm-up budget (0 = off, up to 64 MB)
+        instance.soundWarmupBudgetKb = Math.max(0, Math.min(65536, instance.soundWarmupBudgetKb));
     }
 
     private static void save() {
@@ -1,33 +1,38 @@
 package com.dread.death;
 
+import com.dread.cinematic.CinematicTimeline;
+import com.dread.cinematic.CinematicTimelines;
 import com.dread.config.DreadConfigLoader;
 import com.dread.entity.DreadEntity;
+import com.dread.network.DreadNetworking;
 import com.dread.network.packets.CinematicTriggerS2C;
 import com.dread.sound.ModSounds;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
-import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.registry.RegistryKey;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundCategory;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Server-side controller for death cinematic sequence.
  * Handles Dread teleportation, death sound, client synchronization, and Dread departure.
+ * Placement and vanish timing come from the death_grab cinematic timeline; the client
+ * evaluates the same timeline, so the trigger packet is the only one sent.
  */
 public class DeathCinematicController {
 
-    private static final double FACE_TO_FACE_DISTANCE = 1.5; // blocks in front of player
-    private static final int DREAD_VANISH_DELAY_TICKS = 100; // 5 seconds - Dread leaves after attack animation
+    // Track Dreads that need to vanish after attacking: entity id -> (dimension, vanish world tick)
+    private static final Map<Integer, PendingVanish> pendingVanish = new HashMap<>();
 
-    // Track Dreads that need to vanish after attacking
-    private static final Map<Integer, Integer> pendingVanish = new HashMap<>();
+    private record PendingVanish(RegistryKey<World> world, long vanishTick) {}
 
     /**
      * Register tick handler for Dread departure timing.
@@ -44,13 +49,11 @@ public class DeathCinematicController {
 
         List<Integer> readyToVanish = new ArrayList<>();
 
-        // Decrement timers
-        for (Map.Entry<Integer, Integer> entry : pendingVanish.entrySet()) {
-            int remaining = entry.getValue() - 1;
-            if (remaining <= 0) {
+        // Find Dreads in this world whose vanish tick has passed
+        for (Map.Entry<Integer, PendingVanish> entry : pendingVanish.entrySet()) {
+            PendingVanish pending = entry.getValue();
+            if (pending.world() == world.getRegistryKey() && world.getTime() >= pending.vanishTick()) {
                 readyToVanish.add(entry.getKey());
-            } else {
-                entry.setValue(remaining);
             }
         }
 
@@ -68,27 +71,28 @@ public class DeathCinematicController {
     /**
      * Trigger the death cinematic sequence.
      * Teleports Dread face-to-face with player, plays death sound, sends client packet.
-     * Dread will vanish after 2 seconds.
+     * Dread vanishes at the timeline's vanish tick.
      *
      * @param player The downed player
      * @param dread The Dread entity that killed the player
      */
     public static void triggerDeathCinematic(ServerPlayerEntity player, DreadEntity dread) {
         var config = DreadConfigLoader.getConfig();
+        ServerWorld world = player.getServerWorld();
+        CinematicTimeline timeline = CinematicTimelines.get(CinematicTimeline.DEATH_GRAB);
+        long startTick = world.getTime();
 
-        // Play death sound at player location
-        BlockPos deathPos = player.getBlockPos();
-        player.getServerWorld().playSound(
-            null, // Play to all nearby players
-            deathPos,
+        // Play death sound at player location (the player and everyone tracking them)
+        DreadNetworking.playSoundFromEntity(
+            player,
             ModSounds.DREAD_DEATH,
             SoundCategory.HOSTILE,
             1.0f, // volume
             1.0f  // pitch
         );
 
-        // Schedule Dread to vanish after attack animation (2 seconds)
-        pendingVanish.put(dread.getId(), DREAD_VANISH_DELAY_TICKS);
+        // Schedule Dread to vanish after attack animation
+        pendingVanish.put(dread.getId(), new PendingVanish(world.getRegistryKey(), startTick + timeline.vanishTick()));
 
         // Skip camera lock if configured
         if (config.skipDeathCinematic) {
@@ -104,19 +108,23 @@ public class DeathCinematicController {
         Vec3d horizontalLook = new Vec3d(Math.cos(yawRadians), 0, Math.sin(yawRadians));
 
         // Position Dread in front of player at same Y level
-        Vec3d dreadPos = playerPos.add(horizontalLook.multiply(FACE_TO_FACE_DISTANCE));
+        Vec3d dreadPos = playerPos.add(horizontalLook.multiply(timeline.faceDistance()));
 
         // Calculate yaw for Dread to face player (opposite direction)
         float dreadYaw = playerYaw + 180.0f;
 
-        // Teleport Dread to face-to-face position at ground level
-        dread.refreshPositionAndAngles(dreadPos.x, playerPos.y, dreadPos.z, dreadYaw, 0.0f);
+        // Teleport Dread to face-to-face position at ground level (resets previous position and head yaw too)
+        dread.teleport(world, dreadPos.x, playerPos.y, dreadPos.z, Set.of(), dreadYaw, 0.0f);
 
-        // Send cinematic trigger packet to client
+        // Send cinematic trigger packet to client - timeline, start tick and the placement we used
         CinematicTriggerS2C packet = new CinematicTriggerS2C(
             dread.getId(),
-            deathPos
+            timeline.id(),
+            startTick,
+            dreadPos.x,
+            playerPos.y,
+            dreadPos.z
         );
-        ServerPlayNetworking.send(player, packet);
+        DreadNetworking.send(player, packet);
     }
 }
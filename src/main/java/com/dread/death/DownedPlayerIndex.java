@@ -0,0 +1,74 @@
+package com.dread.death;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Online downed players bucketed by dimension and chunk.
+ * Rebuilt once per tick from the downed registry (cost scales with downed players), so
+ * revival matching can start from sneaking players and only look at neighbouring buckets.
+ */
+public class DownedPlayerIndex {
+
+    private static final Map<RegistryKey<World>, Long2ObjectMap<List<ServerPlayerEntity>>> buckets = new HashMap<>();
+
+    /**
+     * Rebuild the index from the current downed registry.
+     */
+    public static void rebuild(MinecraftServer server, DownedPlayersState state) {
+        buckets.clear();
+
+        for (DownedPlayerData data : state.getAllDowned()) {
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(data.playerId);
+            if (player == null) continue;
+
+            ChunkPos chunk = player.getChunkPos();
+            buckets.computeIfAbsent(player.getServerWorld().getRegistryKey(), k -> new Long2ObjectOpenHashMap<>())
+                .computeIfAbsent(chunk.toLong(), k -> new ArrayList<>())
+                .add(player);
+        }
+    }
+
+    /**
+     * Check whether any downed player is indexed.
+     */
+    public static boolean isEmpty() {
+        return buckets.isEmpty();
+    }
+
+    /**
+     * Collect downed players in the chunk of a position and the eight chunks around it.
+     * Callers still filter by exact distance; the 3x3 area covers any range up to 16 blocks.
+     */
+    public static void collectNear(ServerWorld world, ChunkPos center, List<ServerPlayerEntity> out) {
+        Long2ObjectMap<List<ServerPlayerEntity>> worldBuckets = buckets.get(world.getRegistryKey());
+        if (worldBuckets == null) return;
+
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                List<ServerPlayerEntity> bucket = worldBuckets.get(ChunkPos.toLong(center.x + dx, center.z + dz));
+                if (bucket != null) {
+                    out.addAll(bucket);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop all entries (server stop).
+     */
+    public static void clear() {
+        buckets.clear();
+    }
+}
@@ -1,10 +1,12 @@
 package com.dread.death;
 
+import com.dread.DreadMod;
 import com.dread.config.DreadConfigLoader;
 import com.dread.death.GameModeDetector.DreadGameMode;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.nbt.NbtList;
 import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
@@ -13,8 +15,12 @@ import net.minecraft.world.PersistentState;
 import java.util.*;
 
 /**
- * Persistent state tracking all downed players in a world.
+ * Persistent state tracking all downed players on the server.
  * Handles countdown timers, revival progress, and spectator transitions.
+ *
+ * A single server-wide registry keyed by player UUID, saved with the overworld's data.
+ * Downed players keep their record and ticking timer when moved to another dimension
+ * (portal, /tp, other mods), and lookups from any world hit the same map.
  */
 public class DownedPlayersState extends PersistentState {
 
@@ -27,20 +33,56 @@ public class DownedPlayersState extends PersistentState {
     private final transient Set<UUID> escapedPlayers = new HashSet<>();
     // Transient set tracking players who died from Dread expiration (for respawn debuff)
     private final transient Set<UUID> recentDreadDeaths = new HashSet<>();
+    // Transient list of revivals cancelled since the last drain (clients are told to drop their bar)
+    private final transient List<UUID> cancelledRevivals = new ArrayList<>();
+
+    private static final Type<DownedPlayersState> TYPE = new Type<>(
+        DownedPlayersState::new,
+        DownedPlayersState::createFromNbt,
+        null
+    );
 
     public DownedPlayersState() {
         super();
     }
 
+    /**
+     * Get the server-wide downed registry (stored with the overworld).
+     */
+    public static DownedPlayersState getOrCreate(MinecraftServer server) {
+        return server.getOverworld().getPersistentStateManager().getOrCreate(TYPE, STATE_NAME);
+    }
+
+    /**
+     * Get the server-wide downed registry. Any world resolves to the same state.
+     */
     public static DownedPlayersState getOrCreate(ServerWorld world) {
-        return world.getPersistentStateManager().getOrCreate(
-            new Type<>(
-                DownedPlayersState::new,
-                DownedPlayersState::createFromNbt,
-                null
-            ),
-            STATE_NAME
-        );
+        return getOrCreate(world.getServer());
+    }
+
+    /**
+     * Fold per-dimension downed records saved by older versions into the server-wide registry.
+     * Legacy states are emptied so they are not merged twice.
+     */
+    public static void migrateLegacyWorldStates(MinecraftServer server) {
+        DownedPlayersState global = getOrCreate(server);
+
+        for (ServerWorld world : server.getWorlds()) {
+            if (world == server.getOverworld()) continue;
+
+            DownedPlayersState legacy = world.getPersistentStateManager().get(TYPE, STATE_NAME);
+            if (legacy == null || legacy.downedPlayers.isEmpty()) continue;
+
+            for (DownedPlayerData data : legacy.downedPlayers.values()) {
+                global.downedPlayers.putIfAbsent(data.playerId, data);
+            }
+            DreadMod.LOGGER.info("Migrated {} downed players from {} into the server-wide registry",
+                legacy.downedPlayers.size(), world.getRegistryKey().getValue());
+
+            legacy.downedPlayers.clear();
+            legacy.markDirty();
+            global.markDirty();
+        }
     }
 
     public static DownedPlayersState createFromNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
@@ -115,7 +157,7 @@ public class DownedPlayersState extends PersistentState {
 
     public void removeDowned(UUID playerId) {
         downedPlayers.remove(playerId);
-        activeRevivals.remove(playerId);  // Cancel any revival in progress
+        cancelRevival(playerId);  // Cancel any revival in progress
         markDirty();
     }
 
@@ -125,10 +167,10 @@ public class DownedPlayersState extends PersistentState {
 
     // --- Revival Management ---
 
-    public void startRevival(UUID downedPlayerId, UUID reviverPlayerId) {
+    public void startRevival(UUID downedPlayerId, UUID reviverPlayerId, long startTick) {
         if (!isDowned(downedPlayerId)) return;
 
-        activeRevivals.put(downedPlayerId, new RevivalProgress(downedPlayerId, reviverPlayerId));
+        activeRevivals.put(downedPlayerId, new RevivalProgress(downedPlayerId, reviverPlayerId, startTick));
         // Note: Revivals are uninterruptible per CONTEXT.md - no cancel on damage/movement
     }
 
@@ -163,7 +205,21 @@ public class DownedPlayersState extends PersistentState {
     }
 
     public void cancelRevival(UUID downedPlayerId) {
-        activeRevivals.remove(downedPlayerId);
+        if (activeRevivals.remove(downedPlayerId) != null) {
+            cancelledRevivals.add(downedPlayerId);
+        }
+    }
+
+    /**
+     * Take the revivals cancelled since the last call.
+     * @return List of downed player IDs whose revival was cancelled
+     */
+    public List<UUID> drainCancelledRevivals() {
+        if (cancelledRevivals.isEmpty()) return Collections.emptyList();
+
+        List<UUID> cancelled = new ArrayList<>(cancelledRevivals);
+        cancelledRevivals.clear();
+        return cancelled;
     }
 
     // --- Escape Tracking (Transient - Not Persisted) ---
@@ -4,17 +4,15 @@ import com.dread.DreadMod;
 import com.dread.config.DreadConfigLoader;
 import com.dread.death.CrawlPoseHandler;
 import com.dread.entity.DreadEntity;
+import com.dread.network.DreadNetworking;
 import com.dread.network.packets.RemoveDownedEffectsS2C;
+import com.dread.spawn.DreadProximityGrid;
 import net.fabricmc.fabric.api.entity.event.v1.ServerLivingEntityEvents;
-import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.damage.DamageTypes;
 import net.minecraft.server.network.ServerPlayerEntity;
 
-import java.util.Comparator;
-import java.util.List;
-
 /**
  * Intercepts player death events when killed by Dread entity.
  * Transitions player to downed state instead of immediate death.
@@ -68,7 +66,7 @@ public class DreadDeathHandler {
                 state.removeDowned(player.getUuid());
 
                 // Send packet to clear client-side downed effects (prevents DeathScreen crash)
-                ServerPlayNetworking.send(player, new RemoveDownedEffectsS2C());
+                DreadNetworking.send(player, new RemoveDownedEffectsS2C());
             }
 
             return true; // Allow vanilla death to proceed
@@ -112,18 +110,7 @@ public class DreadDeathHandler {
      * @return The nearest Dread entity, or null if none found
      */
     private static DreadEntity findNearestDread(ServerPlayerEntity player, double range) {
-        List<DreadEntity> dreads = player.getServerWorld().getEntitiesByClass(
-            DreadEntity.class,
-            player.getBoundingBox().expand(range),
-            dread -> true
-        );
-
-        if (dreads.isEmpty()) {
-            return null;
-        }
-
-        return dreads.stream()
-            .min(Comparator.comparingDouble(dread -> dread.squaredDistanceTo(player)))
-            .orElse(null);
+        return DreadProximityGrid.findNearest(player.getServerWorld(),
+            player.getBoundingBox().expand(range), player.getPos());
     }
 }
@@ -1,11 +1,18 @@
 package com.dread.death;
 
+import com.dread.network.DreadNetworking;
+import com.dread.network.packets.DownedFlagS2C;
 import com.dread.network.packets.DownedStateUpdateS2C;
 import com.dread.network.packets.RemoveDownedEffectsS2C;
+import net.fabricmc.fabric.api.entity.event.v1.ServerEntityWorldChangeEvents;
+import net.fabricmc.fabric.api.entity.event.v1.ServerPlayerEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
-import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.fabricmc.fabric.api.networking.v1.EntityTrackingEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.minecraft.entity.Entity;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
-import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.world.GameMode;
 
@@ -13,67 +20,80 @@ import com.dread.death.CrawlPoseHandler;
 import com.dread.death.DeathCinematicController;
 import com.dread.death.GameModeDetector.DreadGameMode;
 import com.dread.entity.DreadEntity;
+import com.dread.spawn.DreadProximityGrid;
 import com.dread.config.DreadConfigLoader;
 
-import net.minecraft.particle.DustParticleEffect;
-import net.minecraft.util.math.Vec3d;
-import org.joml.Vector3f;
-
 import java.util.*;
 
 /**
  * Central coordinator for death/revival tick processing.
  * Handles downed timer countdown, revival progress, and spectator transitions.
+ * Ticks once per server tick against the server-wide DownedPlayersState, so a downed
+ * player's timer runs regardless of which dimension they are in.
  */
 public class DreadDeathManager {
 
-    private static int tickCounter = 0;
-    private static final int SYNC_INTERVAL = 20; // Sync every 1 second
-    private static final int CINEMATIC_DURATION_TICKS = 120; // 6 seconds (matches death_grab animation v3.0)
+    private static final int HEARTBEAT_INTERVAL = 200; // Resend downed state every 10 seconds to correct drift
 
     // Track players waiting for cinematic to complete before death
     private static final Map<UUID, Integer> pendingDeathAfterCinematic = new HashMap<>();
     // Track players currently in death cinematic (to pause their downed timer)
     private static final Set<UUID> playersInCinematic = new HashSet<>();
+    // Last downed state sent to each client
+    private static final Map<UUID, SyncSnapshot> lastSynced = new HashMap<>();
+    // Players whose downed flag has been replicated to trackers
+    private static final Set<UUID> replicatedDowned = new HashSet<>();
 
     /**
-     * Register with ServerTickEvents.END_WORLD_TICK during mod initialization.
+     * Register with ServerTickEvents.END_SERVER_TICK during mod initialization.
      */
     public static void register() {
-        ServerTickEvents.END_WORLD_TICK.register(DreadDeathManager::tick);
+        ServerTickEvents.END_SERVER_TICK.register(DreadDeathManager::tick);
+        EntityTrackingEvents.START_TRACKING.register(DreadDeathManager::onStartTracking);
+
+        // A reconnected, respawned or dimension-changed player has a fresh client entity -
+        // forget the replicated flag so the next sync sends it to them (and trackers) again
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) ->
+            replicatedDowned.remove(handler.getPlayer().getUuid()));
+        ServerPlayerEvents.AFTER_RESPAWN.register((oldPlayer, newPlayer, alive) ->
+            replicatedDowned.remove(newPlayer.getUuid()));
+        ServerEntityWorldChangeEvents.AFTER_PLAYER_CHANGE_WORLD.register((player, origin, destination) ->
+            replicatedDowned.remove(player.getUuid()));
+
+        ServerLifecycleEvents.SERVER_STARTED.register(DownedPlayersState::migrateLegacyWorldStates);
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+            lastSynced.clear();
+            replicatedDowned.clear();
+            DownedPlayerIndex.clear();
+        });
     }
 
     /**
      * Main tick handler - processes all downed players and revivals.
      */
-    private static void tick(ServerWorld world) {
-        tickCounter++;
-
-        DownedPlayersState state = DownedPlayersState.getOrCreate(world);
+    private static void tick(MinecraftServer server) {
+        DownedPlayersState state = DownedPlayersState.getOrCreate(server);
 
         // Process downed timers every tick
-        processDownedTimers(world, state);
+        processDownedTimers(server, state);
 
         // Process active revivals every tick
-        processActiveRevivals(world, state);
+        processActiveRevivals(server, state);
 
         // Process pending deaths (after cinematic completes)
-        processPendingDeaths(world, state);
+        processPendingDeaths(server, state);
 
-        // Spawn blood particles for downed players
-        spawnBloodParticles(world, state);
+        // Replicate downed flags (clients run the blood-drip emitter)
+        syncDownedFlags(server, state);
 
-        // Sync downed states to clients every second
-        if (tickCounter >= SYNC_INTERVAL) {
-            syncDownedStates(world, state);
-            tickCounter = 0;
-        }
+        // Sync downed states to clients on change (plus heartbeat)
+        syncDownedStates(server, state);
     }
 
     /**
      * Process players waiting for death cinematic to complete before dying/spectator.
      */
-    private static void processPendingDeaths(ServerWorld world, DownedPlayersState state) {
+    private static void processPendingDeaths(MinecraftServer server, DownedPlayersState state) {
         List<UUID> readyToTransition = new ArrayList<>();
 
         // Decrement timers and find players ready to transition
@@ -92,10 +112,10 @@ public class DreadDeathManager {
 
             if (pendingSpectatorAfterCinematic.contains(playerId)) {
                 // Multiplayer - transition to spectator
-                completeSpectatorTransition(world, playerId, state);
+                completeSpectatorTransition(server, playerId, state);
             } else {
                 // Singleplayer - normal death
-                completeSingleplayerDeath(world, playerId, state);
+                completeSingleplayerDeath(server, playerId, state);
             }
         }
     }
@@ -103,7 +123,7 @@ public class DreadDeathManager {
     /**
      * Decrement timers for all downed players and transition to spectator on expiration.
      */
-    private static void processDownedTimers(ServerWorld world, DownedPlayersState state) {
+    private static void processDownedTimers(MinecraftServer server, DownedPlayersState state) {
         List<UUID> expiredPlayers = new ArrayList<>();
 
         for (DownedPlayerData data : state.getAllDowned()) {
@@ -130,9 +150,9 @@ public class DreadDeathManager {
         for (UUID playerId : expiredPlayers) {
             DownedPlayerData data = state.getDownedData(playerId);
             if (data != null && data.mode == DreadGameMode.SINGLEPLAYER) {
-                triggerSingleplayerDeath(world, playerId, state);
+                triggerSingleplayerDeath(server, playerId, state);
             } else {
-                transitionToSpectator(world, playerId, state);
+                transitionToSpectator(server, playerId, state);
             }
         }
     }
@@ -144,20 +164,20 @@ public class DreadDeathManager {
      * Transition player to spectator mode - immediate transition, no second cinematic.
      * The cinematic already played when Dread first attacked. Player bled out, now spectator.
      */
-    private static void transitionToSpectator(ServerWorld world, UUID playerId, DownedPlayersState state) {
+    private static void transitionToSpectator(MinecraftServer server, UUID playerId, DownedPlayersState state) {
         // No second cinematic - player already saw Dread attack when first downed.
         // They've been bleeding out, now they become spectator.
-        completeSpectatorTransition(world, playerId, state);
+        completeSpectatorTransition(server, playerId, state);
     }
 
     /**
      * Complete the spectator transition after cinematic finishes.
      */
-    private static void completeSpectatorTransition(ServerWorld world, UUID playerId, DownedPlayersState state) {
+    private static void completeSpectatorTransition(MinecraftServer server, UUID playerId, DownedPlayersState state) {
         // Clear cinematic flag
         playersInCinematic.remove(playerId);
 
-        ServerPlayerEntity player = world.getServer().getPlayerManager().getPlayer(playerId);
+        ServerPlayerEntity player = server.getPlayerManager().getPlayer(playerId);
         if (player == null) {
             state.removeDowned(playerId);
             pendingSpectatorAfterCinematic.remove(playerId);
@@ -181,28 +201,28 @@ public class DreadDeathManager {
 
         // Broadcast death message
         Text deathMessage = Text.literal(player.getName().getString() + " succumbed to the Dread");
-        world.getServer().getPlayerManager().broadcast(deathMessage, false);
+        server.getPlayerManager().broadcast(deathMessage, false);
     }
 
     /**
      * Trigger singleplayer death - immediate death, no second cinematic.
      * The cinematic already played when Dread first attacked. Player bled out, now they die.
      */
-    private static void triggerSingleplayerDeath(ServerWorld world, UUID playerId, DownedPlayersState state) {
+    private static void triggerSingleplayerDeath(MinecraftServer server, UUID playerId, DownedPlayersState state) {
         // No second cinematic - player already saw Dread attack when first downed.
         // They've been bleeding out, now they just die.
-        completeSingleplayerDeath(world, playerId, state);
+        completeSingleplayerDeath(server, playerId, state);
     }
 
     /**
      * Complete the singleplayer death after cinematic finishes.
      * Called either directly (no Dread) or after cinematic timer expires.
      */
-    private static void completeSingleplayerDeath(ServerWorld world, UUID playerId, DownedPlayersState state) {
+    private static void completeSingleplayerDeath(MinecraftServer server, UUID playerId, DownedPlayersState state) {
         // Clear cinematic flag
         playersInCinematic.remove(playerId);
 
-        ServerPlayerEntity player = world.getServer().getPlayerManager().getPlayer(playerId);
+        ServerPlayerEntity player = server.getPlayerManager().getPlayer(playerId);
         if (player == null) {
             state.removeDowned(playerId);
             pendingDeathAfterCinematic.remove(playerId);
@@ -223,12 +243,12 @@ public class DreadDeathManager {
 
         // Broadcast death message
         Text deathMessage = Text.literal(player.getName().getString() + " succumbed to the Dread");
-        world.getServer().getPlayerManager().broadcast(deathMessage, false);
+        server.getPlayerManager().broadcast(deathMessage, false);
 
         // CRITICAL: Send packet to clear client-side downed effects BEFORE kill()
         // Without this, client still thinks it's downed and DeathScreenMixin cancels init(),
         // causing null scoreText and crash in DeathScreen.render()
-        ServerPlayNetworking.send(player, new RemoveDownedEffectsS2C());
+        DreadNetworking.send(player, new RemoveDownedEffectsS2C());
 
         // Trigger normal Minecraft death - respects keepInventory, shows death screen
         player.kill();
@@ -238,115 +258,126 @@ public class DreadDeathManager {
      * Find the nearest Dread entity within range of player.
      */
     private static DreadEntity findNearestDread(ServerPlayerEntity player, double range) {
-        List<DreadEntity> dreads = player.getServerWorld().getEntitiesByClass(
-            DreadEntity.class,
-            player.getBoundingBox().expand(range),
-            dread -> true
-        );
-
-        if (dreads.isEmpty()) {
-            return null;
-        }
-
-        return dreads.stream()
-            .min(Comparator.comparingDouble(dread -> dread.squaredDistanceTo(player)))
-            .orElse(null);
+        return DreadProximityGrid.findNearest(player.getServerWorld(),
+            player.getBoundingBox().expand(range), player.getPos());
     }
 
     /**
-     * Process active revivals - tick progress, handle completions, send progress updates.
+     * Process active revivals - tick progress, handle completions, send end packets.
+     * Progress itself is not sent; clients interpolate from the start packet.
      */
-    private static void processActiveRevivals(ServerWorld world, DownedPlayersState state) {
+    private static void processActiveRevivals(MinecraftServer server, DownedPlayersState state) {
         // Tick all revivals and get completed ones
         List<UUID> completedRevivals = state.tickRevivals();
 
         // Handle completed revivals
         for (UUID downedPlayerId : completedRevivals) {
-            ServerPlayerEntity downedPlayer = world.getServer().getPlayerManager().getPlayer(downedPlayerId);
+            RevivalInteractionHandler.broadcastRevivalEnded(server, downedPlayerId);
+
+            ServerPlayerEntity downedPlayer = server.getPlayerManager().getPlayer(downedPlayerId);
             if (downedPlayer != null) {
-                RevivalInteractionHandler.completeRevival(world, downedPlayer);
+                RevivalInteractionHandler.completeRevival(downedPlayer.getServerWorld(), downedPlayer);
             } else {
                 // Player disconnected, clean up
                 state.removeDowned(downedPlayerId);
             }
         }
 
-        // Broadcast progress for active revivals
-        for (DownedPlayerData data : state.getAllDowned()) {
-            RevivalProgress revival = state.getRevivalProgress(data.playerId);
-            if (revival != null) {
-                RevivalInteractionHandler.broadcastRevivalProgress(
-                    world,
-                    data.playerId,
-                    revival.getProgress(),
-                    true
-                );
-            }
+        // Tell clients about revivals cancelled since last tick (downed player died, left, etc.)
+        for (UUID downedPlayerId : state.drainCancelledRevivals()) {
+            RevivalInteractionHandler.broadcastRevivalEnded(server, downedPlayerId);
         }
 
-        // Check for new revivers among downed players
-        for (DownedPlayerData data : state.getAllDowned()) {
-            ServerPlayerEntity downedPlayer = world.getServer().getPlayerManager().getPlayer(data.playerId);
-            if (downedPlayer != null) {
-                RevivalInteractionHandler.checkForRevivers(world, downedPlayer, state);
-            }
-        }
+        // Check for new revivers (sneaking players near downed players)
+        RevivalInteractionHandler.matchRevivers(server, state);
     }
 
     /**
-     * Synchronize downed state to clients every second.
+     * Synchronize downed state to clients when it changes.
+     * Each downed player's (paused, mode, timer) is compared against what was last sent; a running
+     * timer is compared by its expiry tick, so normal countdown never triggers a packet while
+     * pauses, resumes, mode transitions and timer adjustments do. A heartbeat resends everything
+     * every HEARTBEAT_INTERVAL ticks to correct client clock drift.
      */
-    private static void syncDownedStates(ServerWorld world, DownedPlayersState state) {
+    private static void syncDownedStates(MinecraftServer server, DownedPlayersState state) {
+        boolean heartbeat = server.getTicks() % HEARTBEAT_INTERVAL == 0;
+
+        // Forget players that are no longer downed (RemoveDownedEffectsS2C already told them)
+        lastSynced.keySet().removeIf(playerId -> !state.isDowned(playerId));
+
         for (DownedPlayerData data : state.getAllDowned()) {
-            ServerPlayerEntity player = world.getServer().getPlayerManager().getPlayer(data.playerId);
-            if (player != null) {
-                DownedStateUpdateS2C packet = new DownedStateUpdateS2C(
-                    true,
-                    data.getRemainingSeconds(),
-                    data.mode == DreadGameMode.SINGLEPLAYER  // isMercyMode
-                );
-                ServerPlayNetworking.send(player, packet);
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(data.playerId);
+            if (player == null) {
+                lastSynced.remove(data.playerId); // Resend in full when they reconnect
+                continue;
             }
+
+            boolean paused = state.isBeingRevived(data.playerId) || playersInCinematic.contains(data.playerId);
+            boolean mercy = data.mode == DreadGameMode.SINGLEPLAYER;
+            // Client timers extrapolate from the world time of the dimension they are in
+            long expiryTick = player.getServerWorld().getTime() + data.remainingTicks;
+            SyncSnapshot snapshot = new SyncSnapshot(paused, mercy, paused ? data.remainingTicks : expiryTick);
+
+            if (!heartbeat && snapshot.equals(lastSynced.get(data.playerId))) {
+                continue;
+            }
+
+            lastSynced.put(data.playerId, snapshot);
+            DreadNetworking.send(player, new DownedStateUpdateS2C(
+                true,
+                paused,
+                mercy,
+                data.remainingTicks,
+                expiryTick
+            ));
         }
     }
 
-    // Blood red color for particles (dark crimson red)
-    private static final DustParticleEffect BLOOD_PARTICLE = new DustParticleEffect(
-        new Vector3f(0.6f, 0.05f, 0.05f),  // Dark blood red RGB
-        1.2f  // Slightly larger size
-    );
-
     /**
-     * Spawn blood drip particles around downed players.
-     * Visible to all nearby players, reinforcing injury state.
+     * Last downed state sent to a client. timerKey is the expiry tick while running
+     * and the frozen remaining ticks while paused.
      */
-    private static void spawnBloodParticles(ServerWorld world, DownedPlayersState state) {
-        // Only spawn particles every 10 ticks (0.5 seconds)
-        if (world.getTime() % 10 != 0) return;
+    private record SyncSnapshot(boolean paused, boolean mercy, long timerKey) {}
 
+    /**
+     * Replicate the downed flag to the downed player and everyone tracking them when it changes.
+     * Clients run the blood-drip emitter locally from this flag.
+     */
+    private static void syncDownedFlags(MinecraftServer server, DownedPlayersState state) {
+        // Newly downed players
         for (DownedPlayerData data : state.getAllDowned()) {
-            ServerPlayerEntity player = world.getServer().getPlayerManager().getPlayer(data.playerId);
+            if (replicatedDowned.contains(data.playerId)) continue;
+
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(data.playerId);
             if (player == null) continue;
 
-            Vec3d pos = player.getPos();
-
-            // Spawn 2-4 blood particles around player at random offsets
-            int particleCount = world.random.nextInt(3) + 2;
-            for (int i = 0; i < particleCount; i++) {
-                double offsetX = (world.random.nextDouble() - 0.5) * 0.8;
-                double offsetZ = (world.random.nextDouble() - 0.5) * 0.8;
-                double offsetY = world.random.nextDouble() * 0.3;
-
-                world.spawnParticles(
-                    BLOOD_PARTICLE,
-                    pos.x + offsetX,
-                    pos.y + 0.2 + offsetY,  // Near ground level
-                    pos.z + offsetZ,
-                    1,              // particle count
-                    0.02, -0.05, 0.02,  // slight spread, downward drift
-                    0.01            // slow speed
-                );
+            replicatedDowned.add(data.playerId);
+            DreadNetworking.sendToTracking(player, new DownedFlagS2C(player.getId(), true));
+        }
+
+        // Players no longer downed (revived, died, spectating, disconnected)
+        Iterator<UUID> iter = replicatedDowned.iterator();
+        while (iter.hasNext()) {
+            UUID playerId = iter.next();
+            if (state.isDowned(playerId)) continue;
+
+            iter.remove();
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(playerId);
+            if (player != null) {
+                DreadNetworking.sendToTracking(player, new DownedFlagS2C(player.getId(), false));
             }
         }
     }
+
+    /**
+     * Tell a player who just started tracking a downed player to show their blood drip.
+     */
+    private static void onStartTracking(Entity trackedEntity, ServerPlayerEntity player) {
+        if (!(trackedEntity instanceof ServerPlayerEntity trackedPlayer)) return;
+
+        if (DownedPlayersState.getOrCreate(trackedPlayer.getServerWorld()).isDowned(trackedPlayer)) {
+            // START_TRACKING fires after the spawn packets, so the client already has the entity
+            DreadNetworking.send(player, new DownedFlagS2C(trackedPlayer.getId(), true));
+        }
+    }
 }
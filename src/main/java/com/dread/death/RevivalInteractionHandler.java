@@ -1,21 +1,23 @@
 package com.dread.death;
 
+import com.dread.network.DreadNetworking;
 import com.dread.network.packets.RemoveDownedEffectsS2C;
 import com.dread.network.packets.RevivalProgressS2C;
-import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.entity.attribute.EntityAttributeInstance;
 import net.minecraft.entity.attribute.EntityAttributeModifier;
 import net.minecraft.entity.attribute.EntityAttributes;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Identifier;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * Handles proximity-based revival detection and processing.
- * Detects nearby crouching players and manages the 3-second revival process.
+ * Matches sneaking players to nearby downed players and manages the 3-second revival process.
  */
 public class RevivalInteractionHandler {
 
@@ -24,38 +26,53 @@ public class RevivalInteractionHandler {
     private static final double CRAWL_SPEED_MULTIPLIER = -0.9; // -90% movement speed
 
     /**
-     * Check for nearby crouching players and start revivals.
-     * Called every tick for each downed player.
+     * Pair sneaking players with downed players in range and start revivals.
+     * Called every tick. Driven from the sneaking side: only sneaking players look up
+     * downed players, and only in the neighbouring chunk buckets of DownedPlayerIndex,
+     * so cost scales with sneaking players rather than downed x online.
      */
-    public static void checkForRevivers(ServerWorld world, ServerPlayerEntity downedPlayer, DownedPlayersState state) {
-        UUID downedId = downedPlayer.getUuid();
+    public static void matchRevivers(MinecraftServer server, DownedPlayersState state) {
+        DownedPlayerIndex.rebuild(server, state);
+        if (DownedPlayerIndex.isEmpty()) return;
 
-        // Skip if already being revived
-        if (state.isBeingRevived(downedId)) {
-            return;
-        }
+        List<ServerPlayerEntity> nearbyDowned = new ArrayList<>();
 
-        // Find nearby players within revival range
-        List<ServerPlayerEntity> nearbyPlayers = world.getPlayers(player ->
-            player != downedPlayer &&
-            !state.isDowned(player) &&
-            player.squaredDistanceTo(downedPlayer) <= REVIVAL_RANGE * REVIVAL_RANGE
-        );
+        for (ServerPlayerEntity reviver : server.getPlayerManager().getPlayerList()) {
+            if (!reviver.isSneaking() || state.isDowned(reviver)) {
+                continue;
+            }
+
+            nearbyDowned.clear();
+            DownedPlayerIndex.collectNear(reviver.getServerWorld(), reviver.getChunkPos(), nearbyDowned);
 
-        // Check if any nearby player is crouching
-        for (ServerPlayerEntity potentialReviver : nearbyPlayers) {
-            if (potentialReviver.isSneaking()) {
-                startRevival(state, downedId, potentialReviver.getUuid());
-                return; // One reviver at a time
+            for (ServerPlayerEntity downedPlayer : nearbyDowned) {
+                UUID downedId = downedPlayer.getUuid();
+
+                // Skip if already being revived (one reviver at a time)
+                if (state.isBeingRevived(downedId)) {
+                    continue;
+                }
+
+                if (reviver.squaredDistanceTo(downedPlayer) <= REVIVAL_RANGE * REVIVAL_RANGE) {
+                    startRevival(downedPlayer.getServerWorld(), state, downedId, reviver.getUuid());
+                }
             }
         }
     }
 
     /**
      * Start a 3-second uninterruptible revival process.
+     * Nearby clients get a single start packet and animate the bar themselves.
      */
-    private static void startRevival(DownedPlayersState state, UUID downedPlayerId, UUID reviverPlayerId) {
-        state.startRevival(downedPlayerId, reviverPlayerId);
+    private static void startRevival(ServerWorld world, DownedPlayersState state, UUID downedPlayerId, UUID reviverPlayerId) {
+        state.startRevival(downedPlayerId, reviverPlayerId, world.getTime());
+
+        ServerPlayerEntity downedPlayer = world.getServer().getPlayerManager().getPlayer(downedPlayerId);
+        RevivalProgress revival = state.getRevivalProgress(downedPlayerId);
+        if (downedPlayer == null || revival == null) return;
+
+        DreadNetworking.sendToTracking(downedPlayer, RevivalProgressS2C.started(
+            downedPlayer.getId(), RevivalProgress.REVIVAL_DURATION_TICKS));
     }
 
     /**
@@ -78,7 +95,7 @@ public class RevivalInteractionHandler {
         state.removeDowned(playerId);
 
         // Send packet to remove visual effects
-        ServerPlayNetworking.send(downedPlayer, new RemoveDownedEffectsS2C());
+        DreadNetworking.send(downedPlayer, new RemoveDownedEffectsS2C());
     }
 
     /**
@@ -111,21 +128,12 @@ public class RevivalInteractionHandler {
     }
 
     /**
-     * Broadcast revival progress to nearby players (within 16 blocks).
+     * Tell the downed player and everyone tracking them that a revival has ended (completed or cancelled).
      */
-    public static void broadcastRevivalProgress(ServerWorld world, UUID downedPlayerId, float progress, boolean active) {
-        ServerPlayerEntity downedPlayer = world.getServer().getPlayerManager().getPlayer(downedPlayerId);
+    public static void broadcastRevivalEnded(MinecraftServer server, UUID downedPlayerId) {
+        ServerPlayerEntity downedPlayer = server.getPlayerManager().getPlayer(downedPlayerId);
         if (downedPlayer == null) return;
 
-        RevivalProgressS2C packet = new RevivalProgressS2C(downedPlayerId, active, progress);
-
-        // Send to all nearby players (including the downed player)
-        List<ServerPlayerEntity> nearbyPlayers = world.getPlayers(player ->
-            player.squaredDistanceTo(downedPlayer) <= 16 * 16
-        );
-
-        for (ServerPlayerEntity player : nearbyPlayers) {
-            ServerPlayNetworking.send(player, packet);
-        }
+        DreadNetworking.sendToTracking(downedPlayer, RevivalProgressS2C.ended(downedPlayer.getId()));
     }
 }
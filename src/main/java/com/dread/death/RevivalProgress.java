@@ -9,13 +9,15 @@ import java.util.UUID;
 public class RevivalProgress {
     public final UUID downedPlayerId;
     public final UUID reviverPlayerId;
+    public final long startTick;  // World time the revival began (clients interpolate from this)
     public int remainingTicks;  // 3 seconds = 60 ticks
 
     public static final int REVIVAL_DURATION_TICKS = 60;  // 3 seconds
 
-    public RevivalProgress(UUID downedPlayerId, UUID reviverPlayerId) {
+    public RevivalProgress(UUID downedPlayerId, UUID reviverPlayerId, long startTick) {
         this.downedPlayerId = downedPlayerId;
         this.reviverPlayerId = reviverPlayerId;
+        this.startTick = startTick;
         this.remainingTicks = REVIVAL_DURATION_TICKS;
     }
 
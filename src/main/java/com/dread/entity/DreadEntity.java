@@ -5,20 +5,21 @@ import com.dread.config.DreadConfigLoader;
 import com.dread.death.DownedPlayersState;
 import com.dread.entity.ai.StareStandoffGoal;
 import com.dread.entity.ai.VanishGoal;
-import com.dread.sound.DreadSoundManager;
-import net.minecraft.block.Block;
-import net.minecraft.block.BlockState;
-import net.minecraft.block.Blocks;
+import com.dread.spawn.DreadHibernationManager;
+import com.dread.world.ExtinguishService;
+import com.dread.world.ExtinguishableBlocks;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityData;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.SpawnReason;
 import net.minecraft.entity.ai.goal.*;
+import net.minecraft.entity.data.DataTracker;
+import net.minecraft.entity.data.TrackedData;
+import net.minecraft.entity.data.TrackedDataHandlerRegistry;
 import net.minecraft.entity.mob.PathAwareEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.nbt.NbtCompound;
-import net.minecraft.particle.ParticleTypes;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.LocalDifficulty;
@@ -48,16 +49,22 @@ public class DreadEntity extends PathAwareEntity implements GeoEntity {
     private static final String NBT_SPAWN_ANIM_PLAYED = "SpawnAnimPlayed";
     private static final int EXTINGUISH_RANGE = 8;
     private static final int EXTINGUISH_COOLDOWN_TICKS = 20; // One torch per second
-    private static final int PROXIMITY_SOUND_COOLDOWN = 40; // 2 seconds
+    private static final int HIBERNATION_CHECK_INTERVAL = 20; // Check player distance once per second
+    private static final int SPAWN_ANIMATION_TICKS = 40; // Length of the "spawn" animation (2 seconds)
+
+    // Set by the server once the spawn animation has had time to play; clients that start
+    // tracking later (or see a rehydrated Dread) skip it
+    private static final TrackedData<Boolean> SPAWN_ANIM_PLAYED =
+        DataTracker.registerData(DreadEntity.class, TrackedDataHandlerRegistry.BOOLEAN);
 
     private final AnimatableInstanceCache cache = GeckoLibUtil.createInstanceCache(this);
     private DreadFormVariant formVariant = DreadFormVariant.BASE;
-    private boolean hasPlayedSpawnAnimation = false;
+    private boolean spawnAnimationStarted = false; // Client-side: spawn animation already queued
     private boolean isVanishing = false;
     private int extinguishCooldown = 0;
-    private int proximitySoundCooldown = 0;
     private List<BlockPos> pendingExtinguish = new ArrayList<>();
     private boolean isPlayingDeathGrab = false;
+    private int farFromPlayersTicks = 0;
 
     public DreadEntity(EntityType<? extends PathAwareEntity> entityType, World world) {
         super(entityType, world);
@@ -91,6 +98,12 @@ public class DreadEntity extends PathAwareEntity implements GeoEntity {
         this.isPlayingDeathGrab = playing;
     }
 
+    @Override
+    protected void initDataTracker(DataTracker.Builder builder) {
+        super.initDataTracker(builder);
+        builder.add(SPAWN_ANIM_PLAYED, false);
+    }
+
     @Override
     protected void initGoals() {
         // AI goals with priorities (lower number = higher priority)
@@ -156,29 +169,35 @@ public class DreadEntity extends PathAwareEntity implements GeoEntity {
     public void tick() {
         super.tick();
 
-        // Server-side only - torch extinguishing and proximity audio
+        // Server-side only - torch extinguishing and hibernation
+        // (proximity audio is a client-side looping sound, see DreadProximityAudio)
         if (!this.getWorld().isClient) {
+            if (this.age >= SPAWN_ANIMATION_TICKS && !hasPlayedSpawnAnimation()) {
+                setPlayedSpawnAnimation(true);
+            }
             handleTorchExtinguishing();
-            handleProximitySound();
+            handleHibernation();
         }
     }
 
-    private void handleProximitySound() {
-        if (proximitySoundCooldown > 0) {
-            proximitySoundCooldown--;
+    private void handleHibernation() {
+        if (this.age % HIBERNATION_CHECK_INTERVAL != 0) return;
+        if (!(this.getWorld() instanceof ServerWorld serverWorld)) return;
+
+        var config = DreadConfigLoader.getConfig();
+        if (!config.hibernationEnabled || this.isVanishing || this.isPlayingDeathGrab || this.isRemoved()) {
+            farFromPlayersTicks = 0;
             return;
         }
 
-        // Find nearest player
-        PlayerEntity nearestPlayer = this.getWorld().getClosestPlayer(this, 24.0);
-        if (nearestPlayer == null) return;
-
-        float distance = (float) this.distanceTo(nearestPlayer);
+        if (DreadHibernationManager.isFarFromPlayers(serverWorld, this)) {
+            farFromPlayersTicks += HIBERNATION_CHECK_INTERVAL;
+        } else {
+            farFromPlayersTicks = 0;
+        }
 
-        // Only trigger if within audio range
-        if (distance < 16.0f && this.getWorld() instanceof ServerWorld serverWorld) {
-            DreadSoundManager.playProximitySound(serverWorld, this.getBlockPos(), distance);
-            proximitySoundCooldown = PROXIMITY_SOUND_COOLDOWN;
+        if (farFromPlayersTicks >= config.hibernationDelaySeconds * 20) {
+            DreadHibernationManager.hibernate(serverWorld, this);
         }
     }
 
@@ -193,28 +212,13 @@ public class DreadEntity extends PathAwareEntity implements GeoEntity {
             scanForTorches();
         }
 
-        // Extinguish one torch
-        if (!pendingExtinguish.isEmpty()) {
+        // Hand one torch to the extinguish service (applied in per-section batches)
+        if (!pendingExtinguish.isEmpty() && this.getWorld() instanceof ServerWorld serverWorld) {
             BlockPos torchPos = pendingExtinguish.remove(0);
-            BlockState state = this.getWorld().getBlockState(torchPos);
 
             // Verify still a torch (might have been broken by player)
-            if (state.isOf(Blocks.TORCH) || state.isOf(Blocks.WALL_TORCH)) {
-                // Spawn smoke particles (server sends to clients)
-                if (this.getWorld() instanceof ServerWorld serverWorld) {
-                    serverWorld.spawnParticles(
-                        ParticleTypes.LARGE_SMOKE,
-                        torchPos.getX() + 0.5,
-                        torchPos.getY() + 0.5,
-                        torchPos.getZ() + 0.5,
-                        5, // count
-                        0.1, 0.1, 0.1, // spread
-                        0.02 // speed
-                    );
-                }
-
-                // Remove torch
-                this.getWorld().setBlockState(torchPos, Blocks.AIR.getDefaultState(), Block.NOTIFY_ALL);
+            if (ExtinguishService.isExtinguishable(serverWorld.getBlockState(torchPos))) {
+                ExtinguishService.submit(serverWorld, torchPos);
             }
 
             extinguishCooldown = EXTINGUISH_COOLDOWN_TICKS;
@@ -222,14 +226,10 @@ public class DreadEntity extends PathAwareEntity implements GeoEntity {
     }
 
     private void scanForTorches() {
-        BlockPos entityPos = this.getBlockPos();
         pendingExtinguish.clear();
 
-        for (BlockPos pos : BlockPos.iterateOutwards(entityPos, EXTINGUISH_RANGE, EXTINGUISH_RANGE, EXTINGUISH_RANGE)) {
-            BlockState state = this.getWorld().getBlockState(pos);
-            if (state.isOf(Blocks.TORCH) || state.isOf(Blocks.WALL_TORCH)) {
-                pendingExtinguish.add(pos.toImmutable());
-            }
+        if (this.getWorld() instanceof ServerWorld serverWorld) {
+            ExtinguishableBlocks.collectInRange(serverWorld, this.getBlockPos(), EXTINGUISH_RANGE, pendingExtinguish);
         }
 
         // Shuffle for random order (horror effect) - Fisher-Yates shuffle
@@ -263,8 +263,8 @@ public class DreadEntity extends PathAwareEntity implements GeoEntity {
                 return state.setAndContinue(RawAnimation.begin().thenPlay("despawn"));
             }
 
-            if (!hasPlayedSpawnAnimation) {
-                hasPlayedSpawnAnimation = true;
+            if (!spawnAnimationStarted && !hasPlayedSpawnAnimation()) {
+                spawnAnimationStarted = true;
                 return state.setAndContinue(RawAnimation.begin()
                     .thenPlay("spawn")
                     .thenLoop("idle"));
@@ -328,6 +328,21 @@ public class DreadEntity extends PathAwareEntity implements GeoEntity {
         this.formVariant = DreadFormVariant.fromIndex(variant);
     }
 
+    /**
+     * Check if the spawn animation has already played (server-authoritative, tracked to clients,
+     * persisted across saves and hibernation).
+     */
+    public boolean hasPlayedSpawnAnimation() {
+        return this.dataTracker.get(SPAWN_ANIM_PLAYED);
+    }
+
+    /**
+     * Set whether the spawn animation has already played.
+     */
+    public void setPlayedSpawnAnimation(boolean played) {
+        this.dataTracker.set(SPAWN_ANIM_PLAYED, played);
+    }
+
     // ========================
     // NBT Serialization
     // ========================
@@ -336,14 +351,14 @@ public class DreadEntity extends PathAwareEntity implements GeoEntity {
     public void writeCustomDataToNbt(NbtCompound nbt) {
         super.writeCustomDataToNbt(nbt);
         nbt.putInt(NBT_FORM_VARIANT, this.formVariant.getTextureIndex());
-        nbt.putBoolean(NBT_SPAWN_ANIM_PLAYED, this.hasPlayedSpawnAnimation);
+        nbt.putBoolean(NBT_SPAWN_ANIM_PLAYED, hasPlayedSpawnAnimation());
     }
 
     @Override
     public void readCustomDataFromNbt(NbtCompound nbt) {
         super.readCustomDataFromNbt(nbt);
         this.formVariant = DreadFormVariant.fromIndex(nbt.getInt(NBT_FORM_VARIANT));
-        this.hasPlayedSpawnAnimation = nbt.getBoolean(NBT_SPAWN_ANIM_PLAYED);
+        setPlayedSpawnAnimation(nbt.getBoolean(NBT_SPAWN_ANIM_PLAYED));
     }
 
     // ========================
@@ -0,0 +1,225 @@
+package com.dread.network;
+
+import com.dread.DreadMod;
+import com.dread.config.DreadConfigLoader;
+import io.netty.buffer.Unpooled;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.network.packet.s2c.common.CustomPayloadS2CPacket;
+import net.minecraft.registry.DynamicRegistryManager;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.sound.SoundEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wire cost accounting for everything Dread sends.
+ * Counts sends, recipients and approximate encoded bytes per payload type (custom payloads
+ * by CustomPayload.Id, sounds by SoundEvent) over one-second windows.
+ *
+ * Off by default so sends pay nothing but a boolean check. Collection runs while
+ * netMetricsLogIntervalSeconds is set, or for a capture window opened with
+ * /dread perf net start. Sizes are sampled: a type is encoded on its first send and then
+ * once every SIZE_SAMPLE_INTERVAL sends, and the sampled size stands in for the rest.
+ * Bytes are packet bodies before framing and compression, so they approximate
+ * rather than equal what reaches the wire.
+ */
+public class DreadNetMetrics {
+
+    private static final int WINDOW_TICKS = 20; // 1 second
+    private static final int SIZE_SAMPLE_INTERVAL = 64; // Re-encode one send in 64 per type
+    public static final int DEFAULT_CAPTURE_SECONDS = 60;
+
+    /**
+     * Counters for one payload type.
+     */
+    public static class Counter {
+        public long sends;       // Logical sends (one per fan-out)
+        public long recipients;  // Packets actually queued (one per recipient)
+        public long bytes;       // Approximate encoded payload bytes across all recipients
+
+        void add(int recipientCount, int size) {
+            sends++;
+            recipients += recipientCount;
+            bytes += (long) size * recipientCount;
+        }
+
+        void addAll(Counter other) {
+            sends += other.sends;
+            recipients += other.recipients;
+            bytes += other.bytes;
+        }
+    }
+
+    /**
+     * Last sampled encoded size of a payload type.
+     */
+    private static class SizeSample {
+        int size;
+        int sendsUntilResample;
+    }
+
+    // Keys are CustomPayload.Id or SoundEvent instances - no per-send string building
+    private static Map<Object, Counter> currentWindow = new HashMap<>();
+    private static Map<Object, Counter> lastWindow = new HashMap<>();
+    private static final Map<Object, Counter> totals = new HashMap<>();
+    private static final Map<Object, SizeSample> sizes = new HashMap<>();
+    private static long totalSeconds = 0;
+
+    private static boolean collecting = false;
+    private static long captureEndTick = 0;
+
+    /**
+     * Register the collection toggle, window roll-over and optional periodic log.
+     * Call this from DreadMod.onInitialize() alongside DreadNetworking.
+     */
+    public static void register() {
+        ServerTickEvents.END_SERVER_TICK.register(server -> {
+            boolean logging = DreadConfigLoader.getConfig().netMetricsLogIntervalSeconds > 0;
+            collecting = logging || server.getTicks() < captureEndTick;
+
+            if (collecting && server.getTicks() % WINDOW_TICKS == 0) {
+                rollWindow();
+            }
+        });
+
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> reset());
+    }
+
+    /**
+     * Open a capture window: collect metrics for the given number of seconds.
+     * Clears earlier results so the report covers only this window.
+     */
+    public static void startCapture(MinecraftServer server, int seconds) {
+        reset();
+        captureEndTick = server.getTicks() + (long) seconds * 20;
+        collecting = true;
+    }
+
+    /**
+     * Whether metrics are being collected right now.
+     */
+    public static boolean isCollecting() {
+        return collecting;
+    }
+
+    /**
+     * Record a custom payload sent to some number of recipients.
+     */
+    public static void recordPayload(DynamicRegistryManager registries, CustomPayload payload, int recipientCount) {
+        if (!collecting || recipientCount <= 0) return;
+
+        CustomPayload.Id<? extends CustomPayload> type = payload.getId();
+        SizeSample sample = sizes.computeIfAbsent(type, k -> new SizeSample());
+        if (sample.sendsUntilResample-- <= 0) {
+            sample.size = encodedSize(registries, CustomPayloadS2CPacket.PLAY_CODEC, new CustomPayloadS2CPacket(payload));
+            sample.sendsUntilResample = SIZE_SAMPLE_INTERVAL - 1;
+        }
+        record(type, recipientCount, sample.size);
+    }
+
+    /**
+     * Record a vanilla sound packet sent to some number of recipients.
+     */
+    public static <T> void recordSound(DynamicRegistryManager registries, SoundEvent sound,
+                                       PacketCodec<? super RegistryByteBuf, T> codec, T packet, int recipientCount) {
+        if (!collecting || recipientCount <= 0) return;
+
+        SizeSample sample = sizes.computeIfAbsent(sound, k -> new SizeSample());
+        if (sample.sendsUntilResample-- <= 0) {
+            sample.size = encodedSize(registries, codec, packet);
+            sample.sendsUntilResample = SIZE_SAMPLE_INTERVAL - 1;
+        }
+        record(sound, recipientCount, sample.size);
+    }
+
+    private static void record(Object type, int recipientCount, int size) {
+        currentWindow.computeIfAbsent(type, k -> new Counter()).add(recipientCount, size);
+    }
+
+    private static <T> int encodedSize(DynamicRegistryManager registries, PacketCodec<? super RegistryByteBuf, T> codec, T value) {
+        RegistryByteBuf buf = new RegistryByteBuf(Unpooled.buffer(), registries);
+        try {
+            codec.encode(buf, value);
+            return buf.readableBytes();
+        } catch (RuntimeException e) {
+            return 0; // Never let accounting break a send
+        } finally {
+            buf.release();
+        }
+    }
+
+    private static void rollWindow() {
+        for (Map.Entry<Object, Counter> entry : currentWindow.entrySet()) {
+            totals.computeIfAbsent(entry.getKey(), k -> new Counter()).addAll(entry.getValue());
+        }
+        totalSeconds++;
+
+        lastWindow = currentWindow;
+        currentWindow = new HashMap<>();
+
+        int logInterval = DreadConfigLoader.getConfig().netMetricsLogIntervalSeconds;
+        if (logInterval > 0 && totalSeconds % logInterval == 0 && !totals.isEmpty()) {
+            for (String line : formatReport()) {
+                DreadMod.LOGGER.info("[net] {}", line);
+            }
+        }
+    }
+
+    private static void reset() {
+        currentWindow.clear();
+        lastWindow.clear();
+        totals.clear();
+        sizes.clear();
+        totalSeconds = 0;
+        captureEndTick = 0;
+    }
+
+    private static String typeName(Object type) {
+        if (type instanceof CustomPayload.Id<?> id) {
+            return id.id().toString();
+        }
+        if (type instanceof SoundEvent sound) {
+            return "sound/" + sound.getId();
+        }
+        return String.valueOf(type);
+    }
+
+    /**
+     * Format the last one-second window and the per-second averages since collection started.
+     * One line per payload type, sorted by average bytes per second.
+     */
+    public static List<String> formatReport() {
+        List<String> lines = new ArrayList<>();
+        if (totals.isEmpty()) {
+            lines.add(collecting
+                ? "No Dread network traffic recorded yet"
+                : "Dread network metrics are off - run /dread perf net start [seconds] to collect");
+            return lines;
+        }
+
+        lines.add(String.format("Dread network traffic over %ds%s (last second | average per second, sampled sizes):",
+            totalSeconds, collecting ? "" : ", capture finished"));
+
+        List<Map.Entry<Object, Counter>> entries = new ArrayList<>(totals.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().bytes, a.getValue().bytes));
+
+        long seconds = Math.max(1, totalSeconds);
+        for (Map.Entry<Object, Counter> entry : entries) {
+            Counter last = lastWindow.getOrDefault(entry.getKey(), new Counter());
+            Counter total = entry.getValue();
+            lines.add(String.format("  %s: %d sends, %d pkts, ~%d B | %.1f sends, %.1f pkts, ~%.1f B",
+                typeName(entry.getKey()),
+                last.sends, last.recipients, last.bytes,
+                (double) total.sends / seconds, (double) total.recipients / seconds, (double) total.bytes / seconds));
+        }
+
+        return lines;
+    }
+}
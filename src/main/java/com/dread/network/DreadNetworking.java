@@ -1,16 +1,45 @@
 package com.dread.network;
 
 import com.dread.DreadMod;
+import com.dread.network.packets.CinematicTimelinesS2C;
 import com.dread.network.packets.CinematicTriggerS2C;
+import com.dread.network.packets.DownedFlagS2C;
 import com.dread.network.packets.DownedStateUpdateS2C;
+import com.dread.network.packets.JumpScareS2C;
 import com.dread.network.packets.RemoveDownedEffectsS2C;
 import com.dread.network.packets.RevivalProgressS2C;
+import com.dread.network.packets.TensionUpdateS2C;
+import com.dread.network.packets.TorchExtinguishS2C;
 import net.fabricmc.fabric.api.networking.v1.PayloadTypeRegistry;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.entity.Entity;
+import net.minecraft.network.listener.ClientCommonPacketListener;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.network.packet.Packet;
+import net.minecraft.network.packet.s2c.play.PlaySoundFromEntityS2CPacket;
+import net.minecraft.network.packet.s2c.play.PlaySoundS2CPacket;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.sound.SoundCategory;
+import net.minecraft.sound.SoundEvent;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Central registration point for all Dread mod network packets.
  * Registers Server-to-Client (S2C) packets for death cinematics, downed state sync,
  * and revival progress updates.
+ *
+ * Also hosts the fan-out helpers: entity-anchored packets and sounds go to the players
+ * already tracking that entity (or watching that chunk) rather than a radius scan over
+ * every player in the world. Packets are sent straight away; fan-out builds the packet once
+ * and hands the same instance to each recipient's connection.
  */
 public class DreadNetworking {
 
@@ -24,7 +53,127 @@ public class DreadNetworking {
         PayloadTypeRegistry.playS2C().register(DownedStateUpdateS2C.ID, DownedStateUpdateS2C.CODEC);
         PayloadTypeRegistry.playS2C().register(RevivalProgressS2C.ID, RevivalProgressS2C.CODEC);
         PayloadTypeRegistry.playS2C().register(RemoveDownedEffectsS2C.ID, RemoveDownedEffectsS2C.CODEC);
+        PayloadTypeRegistry.playS2C().register(TorchExtinguishS2C.ID, TorchExtinguishS2C.CODEC);
+        PayloadTypeRegistry.playS2C().register(DownedFlagS2C.ID, DownedFlagS2C.CODEC);
+        PayloadTypeRegistry.playS2C().register(CinematicTimelinesS2C.ID, CinematicTimelinesS2C.CODEC);
+        PayloadTypeRegistry.playS2C().register(TensionUpdateS2C.ID, TensionUpdateS2C.CODEC);
+        PayloadTypeRegistry.playS2C().register(JumpScareS2C.ID, JumpScareS2C.CODEC);
 
         DreadMod.LOGGER.info("Registered Dread network packets");
     }
+
+    /**
+     * Get the players tracking an entity, plus the entity itself if it is a player.
+     */
+    public static Collection<ServerPlayerEntity> trackingAndSelf(Entity entity) {
+        Collection<ServerPlayerEntity> tracking = PlayerLookup.tracking(entity);
+        if (!(entity instanceof ServerPlayerEntity self)) {
+            return tracking;
+        }
+
+        List<ServerPlayerEntity> recipients = new ArrayList<>(tracking.size() + 1);
+        recipients.addAll(tracking);
+        recipients.add(self);
+        return recipients;
+    }
+
+    /**
+     * Send a payload to a single player.
+     */
+    public static void send(ServerPlayerEntity player, CustomPayload payload) {
+        ServerPlayNetworking.send(player, payload);
+        DreadNetMetrics.recordPayload(player.getRegistryManager(), payload, 1);
+    }
+
+    /**
+     * Send a payload to every player tracking an entity (and to the entity if it is a player).
+     */
+    public static void sendToTracking(Entity entity, CustomPayload payload) {
+        Collection<ServerPlayerEntity> recipients = trackingAndSelf(entity);
+        if (recipients.isEmpty()) return;
+
+        Packet<ClientCommonPacketListener> packet = ServerPlayNetworking.createS2CPacket(payload);
+        for (ServerPlayerEntity player : recipients) {
+            player.networkHandler.sendPacket(packet);
+        }
+        DreadNetMetrics.recordPayload(entity.getRegistryManager(), payload, recipients.size());
+    }
+
+    /**
+     * Send a payload to every player watching the chunk containing a position.
+     */
+    public static void sendToChunkWatchers(ServerWorld world, BlockPos pos, CustomPayload payload) {
+        Collection<ServerPlayerEntity> recipients = PlayerLookup.tracking(world, pos);
+        if (recipients.isEmpty()) return;
+
+        Packet<ClientCommonPacketListener> packet = ServerPlayNetworking.createS2CPacket(payload);
+        for (ServerPlayerEntity player : recipients) {
+            player.networkHandler.sendPacket(packet);
+        }
+        DreadNetMetrics.recordPayload(world.getRegistryManager(), payload, recipients.size());
+    }
+
+    /**
+     * Play a sound attached to an entity for the players tracking it who are within hearing range.
+     */
+    public static void playSoundFromEntity(Entity entity, SoundEvent sound, SoundCategory category,
+                                           float volume, float pitch) {
+        RegistryEntry<SoundEvent> entry = Registries.SOUND_EVENT.getEntry(sound);
+        double rangeSq = square(sound.getDistanceToTravel(volume));
+        PlaySoundFromEntityS2CPacket packet = new PlaySoundFromEntityS2CPacket(
+            entry, category, entity, volume, pitch, entity.getRandom().nextLong());
+
+        int recipients = 0;
+        for (ServerPlayerEntity player : trackingAndSelf(entity)) {
+            if (player.squaredDistanceTo(entity) <= rangeSq) {
+                player.networkHandler.sendPacket(packet);
+                recipients++;
+            }
+        }
+        DreadNetMetrics.recordSound(entity.getRegistryManager(), sound,
+            PlaySoundFromEntityS2CPacket.CODEC, packet, recipients);
+    }
+
+    /**
+     * Play a positioned sound for the players watching the chunk it is in who are within hearing range.
+     * Use this for positional sounds not tied to a tracked entity (including Dreads that were only
+     * just spawned and have no trackers yet).
+     */
+    public static void playSoundToWatchers(ServerWorld world, BlockPos pos, SoundEvent sound,
+                                           SoundCategory category, float volume, float pitch) {
+        RegistryEntry<SoundEvent> entry = Registries.SOUND_EVENT.getEntry(sound);
+        double x = pos.getX() + 0.5;
+        double y = pos.getY() + 0.5;
+        double z = pos.getZ() + 0.5;
+        double rangeSq = square(sound.getDistanceToTravel(volume));
+        PlaySoundS2CPacket packet = new PlaySoundS2CPacket(
+            entry, category, x, y, z, volume, pitch, world.getRandom().nextLong());
+
+        int recipients = 0;
+        for (ServerPlayerEntity player : PlayerLookup.tracking(world, pos)) {
+            if (player.squaredDistanceTo(x, y, z) <= rangeSq) {
+                player.networkHandler.sendPacket(packet);
+                recipients++;
+            }
+        }
+        DreadNetMetrics.recordSound(world.getRegistryManager(), sound,
+            PlaySoundS2CPacket.CODEC, packet, recipients);
+    }
+
+    /**
+     * Play a positioned sound for a single player only.
+     */
+    public static void playSoundToPlayer(ServerPlayerEntity player, SoundEvent sound, SoundCategory category,
+                                         double x, double y, double z, float volume, float pitch) {
+        PlaySoundS2CPacket packet = new PlaySoundS2CPacket(
+            Registries.SOUND_EVENT.getEntry(sound), category, x, y, z, volume, pitch, player.getRandom().nextLong());
+
+        player.networkHandler.sendPacket(packet);
+        DreadNetMetrics.recordSound(player.getRegistryManager(), sound,
+            PlaySoundS2CPacket.CODEC, packet, 1);
+    }
+
+    private static double square(double value) {
+        return value * value;
+    }
 }
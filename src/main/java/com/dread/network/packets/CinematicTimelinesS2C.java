@@ -0,0 +1,31 @@
+package com.dread.network.packets;
+
+import com.dread.cinematic.CinematicTimeline;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+
+import java.util.List;
+
+/**
+ * Server-to-Client packet that syncs every loaded cinematic timeline.
+ * Sent on join and after each data pack reload, so a cinematic trigger only needs a timeline id.
+ */
+public record CinematicTimelinesS2C(List<CinematicTimeline> timelines) implements CustomPayload {
+
+    public static final CustomPayload.Id<CinematicTimelinesS2C> ID =
+        new CustomPayload.Id<>(Identifier.of("dread", "cinematic_timelines"));
+
+    public static final PacketCodec<RegistryByteBuf, CinematicTimelinesS2C> CODEC =
+        PacketCodec.tuple(
+            CinematicTimeline.PACKET_CODEC.collect(PacketCodecs.toList()), CinematicTimelinesS2C::timelines,
+            CinematicTimelinesS2C::new
+        );
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
@@ -5,13 +5,15 @@ import net.minecraft.network.codec.PacketCodec;
 import net.minecraft.network.codec.PacketCodecs;
 import net.minecraft.network.packet.CustomPayload;
 import net.minecraft.util.Identifier;
-import net.minecraft.util.math.BlockPos;
 
 /**
  * Server-to-Client packet that triggers the death cinematic on the client.
- * Sent when a player dies to Dread, initiating the camera animation and shader effects.
+ * Sent when a player dies to Dread. Carries the timeline id, the world tick it started at and
+ * the position the server placed the Dread at (the camera anchor); the client evaluates the
+ * synced timeline from its own world time, so no follow-up packets are needed.
  */
-public record CinematicTriggerS2C(int dreadEntityId, BlockPos deathPos) implements CustomPayload {
+public record CinematicTriggerS2C(int dreadEntityId, Identifier timelineId, long startTick,
+                                  double anchorX, double anchorY, double anchorZ) implements CustomPayload {
 
     public static final CustomPayload.Id<CinematicTriggerS2C> ID =
         new CustomPayload.Id<>(Identifier.of("dread", "cinematic_trigger"));
@@ -19,7 +21,11 @@ public record CinematicTriggerS2C(int dreadEntityId, BlockPos deathPos) implemen
     public static final PacketCodec<RegistryByteBuf, CinematicTriggerS2C> CODEC =
         PacketCodec.tuple(
             PacketCodecs.VAR_INT, CinematicTriggerS2C::dreadEntityId,
-            BlockPos.PACKET_CODEC, CinematicTriggerS2C::deathPos,
+            Identifier.PACKET_CODEC, CinematicTriggerS2C::timelineId,
+            PacketCodecs.VAR_LONG, CinematicTriggerS2C::startTick,
+            PacketCodecs.DOUBLE, CinematicTriggerS2C::anchorX,
+            PacketCodecs.DOUBLE, CinematicTriggerS2C::anchorY,
+            PacketCodecs.DOUBLE, CinematicTriggerS2C::anchorZ,
             CinematicTriggerS2C::new
         );
 
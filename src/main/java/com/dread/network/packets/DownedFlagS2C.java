@@ -0,0 +1,31 @@
+package com.dread.network.packets;
+
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+
+/**
+ * Server-to-Client packet that replicates whether a player entity is downed.
+ * Sent to the downed player and everyone tracking them when the flag changes, and to
+ * a player who starts tracking someone already downed. Clients use it to run the
+ * blood-drip emitter locally, so the server sends no particle packets.
+ */
+public record DownedFlagS2C(int entityId, boolean downed) implements CustomPayload {
+
+    public static final CustomPayload.Id<DownedFlagS2C> ID =
+        new CustomPayload.Id<>(Identifier.of("dread", "downed_flag"));
+
+    public static final PacketCodec<RegistryByteBuf, DownedFlagS2C> CODEC =
+        PacketCodec.tuple(
+            PacketCodecs.VAR_INT, DownedFlagS2C::entityId,
+            PacketCodecs.BOOL, DownedFlagS2C::downed,
+            DownedFlagS2C::new
+        );
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
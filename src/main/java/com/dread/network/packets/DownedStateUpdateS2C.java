@@ -2,28 +2,56 @@ package com.dread.network.packets;
 
 import net.minecraft.network.RegistryByteBuf;
 import net.minecraft.network.codec.PacketCodec;
-import net.minecraft.network.codec.PacketCodecs;
 import net.minecraft.network.packet.CustomPayload;
 import net.minecraft.util.Identifier;
 
 /**
  * Server-to-Client packet that synchronizes a player's downed state to the client.
- * Used to update the UI with remaining revival time and enable/disable downed rendering.
+ * Used to enable/disable downed rendering and to drive the client-side countdown.
+ *
+ * Sent only when the state changes (downed, paused, resumed, mode change, timer adjusted)
+ * plus a low-frequency drift-correction heartbeat. While running, the client counts down
+ * from expiryTick using its own world time; while paused, remainingTicks is shown frozen.
  *
  * isMercyMode: true = SINGLEPLAYER (MERCY mode), false = MULTIPLAYER (NO MERCY mode)
+ *
+ * Wire format: one flags byte (bit 0 downed, bit 1 paused, bit 2 mercy), varint remaining
+ * ticks, varlong expiry world tick.
  */
-public record DownedStateUpdateS2C(boolean isDowned, int remainingSeconds, boolean isMercyMode) implements CustomPayload {
+public record DownedStateUpdateS2C(boolean isDowned, boolean isPaused, boolean isMercyMode,
+                                   int remainingTicks, long expiryTick) implements CustomPayload {
 
     public static final CustomPayload.Id<DownedStateUpdateS2C> ID =
         new CustomPayload.Id<>(Identifier.of("dread", "downed_state_update"));
 
-    public static final PacketCodec<RegistryByteBuf, DownedStateUpdateS2C> CODEC =
-        PacketCodec.tuple(
-            PacketCodecs.BOOL, DownedStateUpdateS2C::isDowned,
-            PacketCodecs.VAR_INT, DownedStateUpdateS2C::remainingSeconds,
-            PacketCodecs.BOOL, DownedStateUpdateS2C::isMercyMode,
-            DownedStateUpdateS2C::new
+    private static final int FLAG_DOWNED = 1;
+    private static final int FLAG_PAUSED = 1 << 1;
+    private static final int FLAG_MERCY = 1 << 2;
+
+    public static final PacketCodec<RegistryByteBuf, DownedStateUpdateS2C> CODEC = PacketCodec.of(
+        DownedStateUpdateS2C::write,
+        DownedStateUpdateS2C::read
+    );
+
+    private void write(RegistryByteBuf buf) {
+        int flags = (isDowned ? FLAG_DOWNED : 0) | (isPaused ? FLAG_PAUSED : 0) | (isMercyMode ? FLAG_MERCY : 0);
+        buf.writeByte(flags);
+        buf.writeVarInt(remainingTicks);
+        buf.writeVarLong(expiryTick);
+    }
+
+    private static DownedStateUpdateS2C read(RegistryByteBuf buf) {
+        int flags = buf.readUnsignedByte();
+        int remainingTicks = buf.readVarInt();
+        long expiryTick = buf.readVarLong();
+        return new DownedStateUpdateS2C(
+            (flags & FLAG_DOWNED) != 0,
+            (flags & FLAG_PAUSED) != 0,
+            (flags & FLAG_MERCY) != 0,
+            remainingTicks,
+            expiryTick
         );
+    }
 
     @Override
     public Id<? extends CustomPayload> getId() {
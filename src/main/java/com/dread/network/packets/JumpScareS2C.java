@@ -0,0 +1,29 @@
+package com.dread.network.packets;
+
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+
+/**
+ * Server-to-Client packet sent alongside a jump scare sound.
+ * Opens a client-side suppression window in which the locally driven tension soundscape
+ * and Dread proximity loops stay quiet, mirroring the server's per-listener suppression.
+ */
+public record JumpScareS2C(int durationTicks) implements CustomPayload {
+
+    public static final CustomPayload.Id<JumpScareS2C> ID =
+        new CustomPayload.Id<>(Identifier.of("dread", "jump_scare"));
+
+    public static final PacketCodec<RegistryByteBuf, JumpScareS2C> CODEC =
+        PacketCodec.tuple(
+            PacketCodecs.VAR_INT, JumpScareS2C::durationTicks,
+            JumpScareS2C::new
+        );
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
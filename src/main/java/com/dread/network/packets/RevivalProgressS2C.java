@@ -1,48 +1,52 @@
 package com.dread.network.packets;
 
-import io.netty.buffer.ByteBuf;
 import net.minecraft.network.RegistryByteBuf;
 import net.minecraft.network.codec.PacketCodec;
-import net.minecraft.network.codec.PacketCodecs;
 import net.minecraft.network.packet.CustomPayload;
 import net.minecraft.util.Identifier;
-import net.minecraft.util.Uuids;
-
-import java.util.UUID;
 
 /**
- * Server-to-Client packet that updates revival progress for a downed player.
- * Shows a progress bar to the reviver and updates smoothly as they hold right-click.
- * Progress ranges from 0.0 (not started) to 1.0 (fully revived).
+ * Server-to-Client packet that starts or ends a revival progress bar for a downed player.
+ * Sent once on the tick a revival starts (active, with its duration) and once when it
+ * completes or is cancelled (inactive). Clients interpolate progress from their world time,
+ * starting at zero when the packet arrives.
+ *
+ * Wire format: varint entity id, bool active, then (active only) varint duration.
+ * Recipients always track the downed player, so the network entity id is enough to identify them.
  */
-public record RevivalProgressS2C(UUID downedPlayerUUID, boolean active, float progress) implements CustomPayload {
+public record RevivalProgressS2C(int downedEntityId, boolean active, int durationTicks) implements CustomPayload {
 
     public static final CustomPayload.Id<RevivalProgressS2C> ID =
         new CustomPayload.Id<>(Identifier.of("dread", "revival_progress"));
 
-    // Custom UUID codec
-    private static final PacketCodec<ByteBuf, UUID> UUID_CODEC = new PacketCodec<ByteBuf, UUID>() {
-        @Override
-        public UUID decode(ByteBuf buf) {
-            long mostSigBits = buf.readLong();
-            long leastSigBits = buf.readLong();
-            return new UUID(mostSigBits, leastSigBits);
+    public static final PacketCodec<RegistryByteBuf, RevivalProgressS2C> CODEC = PacketCodec.of(
+        RevivalProgressS2C::write,
+        RevivalProgressS2C::read
+    );
+
+    public static RevivalProgressS2C started(int downedEntityId, int durationTicks) {
+        return new RevivalProgressS2C(downedEntityId, true, durationTicks);
+    }
+
+    public static RevivalProgressS2C ended(int downedEntityId) {
+        return new RevivalProgressS2C(downedEntityId, false, 0);
+    }
+
+    private void write(RegistryByteBuf buf) {
+        buf.writeVarInt(downedEntityId);
+        buf.writeBoolean(active);
+        if (active) {
+            buf.writeVarInt(durationTicks);
         }
+    }
 
-        @Override
-        public void encode(ByteBuf buf, UUID uuid) {
-            buf.writeLong(uuid.getMostSignificantBits());
-            buf.writeLong(uuid.getLeastSignificantBits());
+    private static RevivalProgressS2C read(RegistryByteBuf buf) {
+        int entityId = buf.readVarInt();
+        if (!buf.readBoolean()) {
+            return ended(entityId);
         }
-    };
-
-    public static final PacketCodec<RegistryByteBuf, RevivalProgressS2C> CODEC =
-        PacketCodec.tuple(
-            UUID_CODEC, RevivalProgressS2C::downedPlayerUUID,
-            PacketCodecs.BOOL, RevivalProgressS2C::active,
-            PacketCodecs.FLOAT, RevivalProgressS2C::progress,
-            RevivalProgressS2C::new
-        );
+        return started(entityId, buf.readVarInt());
+    }
 
     @Override
     public Id<? extends CustomPayload> getId() {
@@ -0,0 +1,50 @@
+package com.dread.network.packets;
+
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.MathHelper;
+
+/**
+ * Server-to-Client packet carrying the player's tension values.
+ * ambient comes from mining and world day and drives drones and whispers; danger comes from
+ * the spawn chance and is 0 while the player is on spawn cooldown or the chance is negligible.
+ * Sent at low frequency and only when a value changes; the client's TensionSoundDirector
+ * picks and positions ambient drones, rising cues and whispers from them locally.
+ *
+ * Wire format: each value quantized to one unsigned byte.
+ */
+public record TensionUpdateS2C(float ambient, float danger) implements CustomPayload {
+
+    public static final CustomPayload.Id<TensionUpdateS2C> ID =
+        new CustomPayload.Id<>(Identifier.of("dread", "tension_update"));
+
+    public static final PacketCodec<RegistryByteBuf, TensionUpdateS2C> CODEC = PacketCodec.of(
+        TensionUpdateS2C::write,
+        TensionUpdateS2C::read
+    );
+
+    /**
+     * Quantize a tension value to its wire byte (0-255).
+     */
+    public static int quantize(float tension) {
+        return Math.round(MathHelper.clamp(tension, 0.0f, 1.0f) * 255.0f);
+    }
+
+    private void write(RegistryByteBuf buf) {
+        buf.writeByte(quantize(ambient));
+        buf.writeByte(quantize(danger));
+    }
+
+    private static TensionUpdateS2C read(RegistryByteBuf buf) {
+        float ambient = buf.readUnsignedByte() / 255.0f;
+        float danger = buf.readUnsignedByte() / 255.0f;
+        return new TensionUpdateS2C(ambient, danger);
+    }
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
@@ -0,0 +1,31 @@
+package com.dread.network.packets;
+
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.List;
+
+/**
+ * Server-to-Client packet listing the light sources extinguished in one chunk section batch.
+ * The client staggers smoke particles and sounds per torch across the batch window.
+ */
+public record TorchExtinguishS2C(List<BlockPos> positions) implements CustomPayload {
+
+    public static final CustomPayload.Id<TorchExtinguishS2C> ID =
+        new CustomPayload.Id<>(Identifier.of("dread", "torch_extinguish"));
+
+    public static final PacketCodec<RegistryByteBuf, TorchExtinguishS2C> CODEC =
+        PacketCodec.tuple(
+            BlockPos.PACKET_CODEC.collect(PacketCodecs.toList()), TorchExtinguishS2C::positions,
+            TorchExtinguishS2C::new
+        );
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
@@ -1,15 +1,36 @@
 package com.dread.sound;
 
-import com.dread.entity.DreadEntity;
-import com.dread.spawn.SpawnProbabilityState;
+import com.dread.network.DreadNetworking;
+import com.dread.network.packets.JumpScareS2C;
+import com.dread.network.packets.TensionUpdateS2C;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundCategory;
+import net.minecraft.sound.SoundEvent;
 import net.minecraft.util.math.BlockPos;
 
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
 /**
- * Centralized sound management with priority-based playback.
- * Prevents lower priority sounds from interrupting higher priority ones.
+ * Centralized sound management with per-listener priority scheduling.
+ * Every player has their own queue (jumpscare > proximity > ambient) and suppression windows,
+ * so a jump scare only silences the players who heard it.
+ * Sounds are sent as targeted packets to each listener and flushed once per server tick.
+ *
+ * The tension soundscape (ambient drones, danger rising, whispers) runs on the client
+ * (TensionSoundDirector); the server only replicates each player's ambient and danger tension
+ * as two bytes, and tells the client when a jump scare opens a suppression window.
+ * Dread proximity audio is a client-side looping sound per Dread (DreadProximityAudio).
  */
 public class DreadSoundManager {
     // Priority levels (lower value = higher priority)
@@ -17,194 +38,196 @@ public class DreadSoundManager {
     public static final int PRIORITY_PROXIMITY = 1;
     public static final int PRIORITY_AMBIENT = 2;
 
-    private static boolean isPlayingJumpscare = false;
-    private static long jumpscareEndTick = 0;
-    private static long nextAmbientTick = 0;
-    private static final int AMBIENT_INTERVAL_BASE = 400; // 20 seconds base
-    private static final int AMBIENT_INTERVAL_VARIANCE = 200; // +/- 10 seconds
+    private static final int JUMPSCARE_SUPPRESSION_TICKS = 60; // 3 seconds - silences proximity and ambient
+    private static final int PROXIMITY_SUPPRESSION_TICKS = 40; // 2 seconds - silences ambient
+    private static final int TENSION_SYNC_INTERVAL = 60; // Tension replicated at most every 3 seconds
+
+    private static final Map<UUID, ListenerState> listeners = new HashMap<>();
+    private static long nextSequence = 0;
 
     /**
-     * Tick handler to reset jumpscare state after duration expires.
-     * Call this from spawn manager's tick loop.
-     *
-     * @param world Server world
+     * A positioned sound waiting to be played for one listener.
      */
-    public static void tick(ServerWorld world) {
-        // Reset jumpscare flag after 3 seconds (60 ticks)
-        if (isPlayingJumpscare && world.getTime() > jumpscareEndTick) {
-            isPlayingJumpscare = false;
+    private record ScheduledSound(int priority, long sequence, SoundEvent sound, SoundCategory category,
+                                  double x, double y, double z, float volume, float pitch) {}
+
+    /**
+     * Per-player scheduling state.
+     */
+    private static class ListenerState {
+        final PriorityQueue<ScheduledSound> queue = new PriorityQueue<>(
+            Comparator.comparingInt(ScheduledSound::priority).thenComparingLong(ScheduledSound::sequence));
+        // Sounds of priority p are dropped while now < suppressedUntil[p]
+        final long[] suppressedUntil = new long[PRIORITY_AMBIENT + 1];
+        // Last tension bytes sent to the client (ambient << 8 | danger), -1 before the first sync
+        int lastTension = -1;
+
+        boolean isSuppressed(int priority, long now) {
+            return now < suppressedUntil[priority];
         }
 
-        // Ambient tension soundscape
-        if (world.getTime() >= nextAmbientTick) {
-            playAmbientTension(world);
-            // Schedule next ambient sound with random interval
-            nextAmbientTick = world.getTime() +
-                AMBIENT_INTERVAL_BASE +
-                world.getRandom().nextBetween(-AMBIENT_INTERVAL_VARIANCE, AMBIENT_INTERVAL_VARIANCE);
+        void suppressBelow(int priority, long until) {
+            for (int p = priority + 1; p < suppressedUntil.length; p++) {
+                suppressedUntil[p] = Math.max(suppressedUntil[p], until);
+            }
         }
     }
 
+    /**
+     * Register the per-tick flush and listener cleanup.
+     * Call this from DreadMod.onInitialize().
+     */
+    public static void register() {
+        ServerTickEvents.END_SERVER_TICK.register(DreadSoundManager::flush);
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> listeners.remove(handler.getPlayer().getUuid()));
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> listeners.clear());
+    }
+
+    /**
+     * Replicate a player's tension to their client: ambient tension (mining and day) and
+     * danger intensity (spawn chance). Danger is 0 while the player is on spawn cooldown or
+     * the spawn chance is at most 1%, so danger rising cues only play when a spawn can happen.
+     * Sent every TENSION_SYNC_INTERVAL ticks, and only when a quantized byte changed.
+     * Call this once per second per player from the spawn evaluation loop.
+     *
+     * @param world Server world
+     * @param player Target player
+     * @param blocksMined Blocks mined since the last spawn
+     * @param spawnChance Current spawn chance per second
+     * @param onCooldown Whether the player is on spawn cooldown
+     */
+    public static void replicateTension(ServerWorld world, ServerPlayerEntity player, int blocksMined,
+                                        float spawnChance, boolean onCooldown) {
+        if (world.getTime() % TENSION_SYNC_INTERVAL != 0) return;
+
+        long worldDay = world.getTimeOfDay() / 24000L;
+        float ambientTension = Math.min(1.0f, (blocksMined * 0.01f) + (worldDay * 0.02f));
+        float dangerIntensity = !onCooldown && spawnChance > 0.01f ? Math.min(spawnChance * 10, 1.0f) : 0.0f;
+
+        ListenerState listener = getListener(player);
+        int quantized = (TensionUpdateS2C.quantize(ambientTension) << 8) | TensionUpdateS2C.quantize(dangerIntensity);
+        if (quantized == listener.lastTension) return;
+
+        listener.lastTension = quantized;
+        DreadNetworking.send(player, new TensionUpdateS2C(ambientTension, dangerIntensity));
+    }
+
+    /**
+     * Zero a player's replicated tension so their client soundscape goes quiet (mod disabled).
+     * Sends only if the client was last told a non-zero tension.
+     *
+     * @param world Server world
+     * @param player Target player
+     */
+    public static void clearTension(ServerWorld world, ServerPlayerEntity player) {
+        if (world.getTime() % TENSION_SYNC_INTERVAL != 0) return;
+
+        ListenerState listener = listeners.get(player.getUuid());
+        if (listener == null || listener.lastTension <= 0) return;
+
+        listener.lastTension = 0;
+        DreadNetworking.send(player, new TensionUpdateS2C(0.0f, 0.0f));
+    }
+
     /**
      * Play jump scare sound at maximum priority.
-     * Blocks all other sounds during playback.
+     * Every listener within hearing range of the spawn position gets it and has their
+     * proximity and ambient audio suppressed for the duration.
      *
      * @param world Server world
      * @param pos Position to play sound
      */
     public static void playJumpScare(ServerWorld world, BlockPos pos) {
-        isPlayingJumpscare = true;
-        jumpscareEndTick = world.getTime() + 60; // 3 seconds
-
-        world.playSound(
-            null, // all players hear
-            pos,
-            ModSounds.DREAD_JUMPSCARE,
-            SoundCategory.HOSTILE,
-            1.0f,  // max volume
-            1.0f   // normal pitch
-        );
+        double x = pos.getX() + 0.5;
+        double y = pos.getY() + 0.5;
+        double z = pos.getZ() + 0.5;
+        double range = ModSounds.DREAD_JUMPSCARE.getDistanceToTravel(1.0f);
+
+        // The Dread was just spawned and has no trackers yet - use chunk watchers
+        for (ServerPlayerEntity player : PlayerLookup.tracking(world, pos)) {
+            if (player.squaredDistanceTo(x, y, z) <= range * range) {
+                schedule(player, PRIORITY_JUMPSCARE, ModSounds.DREAD_JUMPSCARE, SoundCategory.HOSTILE,
+                    x, y, z, 1.0f, 1.0f);
+            }
+        }
     }
 
     /**
      * Play a fake-out sound effect to build tension without actual spawn.
-     * Randomly selects from multiple fake-out types for variety.
+     * Randomly selects from multiple fake-out types for variety. Only the target player hears it.
      *
      * @param world Server world
      * @param player Target player
      */
     public static void playFakeoutSound(ServerWorld world, ServerPlayerEntity player) {
-        if (isPlayingJumpscare) return; // Don't overlap with jump scare
-
         // Random fake-out type selection
         float typeRoll = world.getRandom().nextFloat();
+        BlockPos pos = player.getBlockPos();
 
         if (typeRoll < 0.4f) {
             // 40%: Distant danger rising sound
-            world.playSound(null, player.getBlockPos(), ModSounds.DANGER_RISING,
-                SoundCategory.AMBIENT, 0.3f, 0.7f + world.getRandom().nextFloat() * 0.3f);
+            schedule(player, PRIORITY_AMBIENT, ModSounds.DANGER_RISING, SoundCategory.AMBIENT, pos,
+                0.3f, 0.7f + world.getRandom().nextFloat() * 0.3f);
         } else if (typeRoll < 0.7f) {
             // 30%: Proximity sound suggesting something nearby
-            world.playSound(null, player.getBlockPos().add(
-                world.getRandom().nextBetween(-10, 10), 0, world.getRandom().nextBetween(-10, 10)),
-                ModSounds.DREAD_PROXIMITY, SoundCategory.HOSTILE, 0.4f, 0.8f + world.getRandom().nextFloat() * 0.4f);
+            schedule(player, PRIORITY_PROXIMITY, ModSounds.DREAD_PROXIMITY, SoundCategory.HOSTILE,
+                pos.add(world.getRandom().nextBetween(-10, 10), 0, world.getRandom().nextBetween(-10, 10)),
+                0.4f, 0.8f + world.getRandom().nextFloat() * 0.4f);
         } else {
             // 30%: Quick ambient spike
-            world.playSound(null, player.getBlockPos(), ModSounds.DREAD_AMBIENT,
-                SoundCategory.AMBIENT, 0.5f, 1.2f);
+            schedule(player, PRIORITY_AMBIENT, ModSounds.DREAD_AMBIENT, SoundCategory.AMBIENT, pos, 0.5f, 1.2f);
         }
     }
 
-    /**
-     * Play danger rising indicator based on spawn probability intensity.
-     * Provides subtle warning as spawn chance increases.
-     *
-     * @param world Server world
-     * @param player Target player
-     * @param intensity Intensity value (0.0 to 1.0)
-     */
-    public static void playDangerRising(ServerWorld world, ServerPlayerEntity player, float intensity) {
-        if (isPlayingJumpscare) return;
-        float volume = 0.1f + (intensity * 0.4f);
-        world.playSound(null, player.getBlockPos(), ModSounds.DANGER_RISING,
-            SoundCategory.AMBIENT, volume, 0.9f + (intensity * 0.2f));
+    private static void schedule(ServerPlayerEntity player, int priority, SoundEvent sound, SoundCategory category,
+                                 BlockPos pos, float volume, float pitch) {
+        schedule(player, priority, sound, category,
+            pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5, volume, pitch);
     }
 
-    /**
-     * Play proximity sound with unnatural silence effect.
-     * Volume decreases as entity gets closer (counter-intuitive horror mechanic).
-     *
-     * @param world Server world
-     * @param entityPos Entity position
-     * @param distance Distance to entity
-     */
-    public static void playProximitySound(ServerWorld world, BlockPos entityPos, float distance) {
-        if (isPlayingJumpscare) return;
-
-        // Inverse distance for volume (quieter as entity gets closer - unnatural silence)
-        float volume;
-        if (distance < 2) {
-            volume = 0.0f; // Complete silence when very close
-        } else if (distance < 8) {
-            volume = 0.1f + ((distance - 2) / 6) * 0.4f;
-        } else {
-            volume = 0.5f; // Normal volume at distance
-        }
+    private static void schedule(ServerPlayerEntity player, int priority, SoundEvent sound, SoundCategory category,
+                                 double x, double y, double z, float volume, float pitch) {
+        getListener(player).queue.add(
+            new ScheduledSound(priority, nextSequence++, sound, category, x, y, z, volume, pitch));
+    }
 
-        if (volume > 0.05f) {
-            world.playSound(null, entityPos, ModSounds.DREAD_PROXIMITY,
-                SoundCategory.HOSTILE, volume, 0.8f);
-        }
+    private static ListenerState getListener(ServerPlayerEntity player) {
+        return listeners.computeIfAbsent(player.getUuid(), id -> new ListenerState());
     }
 
     /**
-     * Play ambient tension soundscape based on spawn probability.
-     * Volume decreases near Dread entities (unnatural silence).
-     *
-     * @param world Server world
+     * Play each listener's queued sounds in priority order, dropping those inside a suppression window.
      */
-    private static void playAmbientTension(ServerWorld world) {
-        if (isPlayingJumpscare) return;
-
-        // Play ambient sound for each player based on their spawn probability
-        for (ServerPlayerEntity player : world.getPlayers()) {
-            SpawnProbabilityState state = SpawnProbabilityState.getOrCreate(world);
-            int blocksMined = state.getMinedBlocks(player.getUuid());
-            long worldDay = world.getTimeOfDay() / 24000L;
-
-            // Higher probability = more likely to play ambient
-            float tension = Math.min(1.0f, (blocksMined * 0.01f) + (worldDay * 0.02f));
-
-            if (world.getRandom().nextFloat() < tension * 0.5f) {
-                // Check if any Dread nearby (unnatural silence zone)
-                boolean dreadNearby = !world.getEntitiesByClass(
-                    DreadEntity.class,
-                    player.getBoundingBox().expand(8),
-                    e -> true
-                ).isEmpty();
-
-                float volume;
-                if (dreadNearby) {
-                    // Unnatural silence - very quiet ambient
-                    volume = 0.05f + (world.getRandom().nextFloat() * 0.1f);
-                } else {
-                    // Normal ambient based on tension
-                    volume = 0.2f + (tension * 0.3f);
-                }
+    private static void flush(MinecraftServer server) {
+        long now = server.getTicks();
+
+        Iterator<Map.Entry<UUID, ListenerState>> iter = listeners.entrySet().iterator();
+        while (iter.hasNext()) {
+            Map.Entry<UUID, ListenerState> entry = iter.next();
+            ListenerState listener = entry.getValue();
+            if (listener.queue.isEmpty()) continue;
+
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(entry.getKey());
+            if (player == null) {
+                iter.remove();
+                continue;
+            }
+
+            ScheduledSound scheduled;
+            while ((scheduled = listener.queue.poll()) != null) {
+                if (listener.isSuppressed(scheduled.priority(), now)) continue;
 
-                world.playSound(
-                    null,
-                    player.getBlockPos(),
-                    ModSounds.DREAD_AMBIENT,
-                    SoundCategory.AMBIENT,
-                    volume,
-                    0.9f + world.getRandom().nextFloat() * 0.2f
-                );
+                DreadNetworking.playSoundToPlayer(player, scheduled.sound(), scheduled.category(),
+                    scheduled.x(), scheduled.y(), scheduled.z(), scheduled.volume(), scheduled.pitch());
+
+                if (scheduled.priority() == PRIORITY_JUMPSCARE) {
+                    listener.suppressBelow(PRIORITY_JUMPSCARE, now + JUMPSCARE_SUPPRESSION_TICKS);
+                    // The tension soundscape runs on the client - give it the same window
+                    DreadNetworking.send(player, new JumpScareS2C(JUMPSCARE_SUPPRESSION_TICKS));
+                } else if (scheduled.priority() == PRIORITY_PROXIMITY) {
+                    listener.suppressBelow(PRIORITY_PROXIMITY, now + PROXIMITY_SUPPRESSION_TICKS);
+                }
             }
         }
     }
-
-    /**
-     * Play distant whispers from random direction.
-     * Creates horror atmosphere with directional audio cues.
-     *
-     * @param world Server world
-     * @param player Target player
-     */
-    public static void playDistantWhispers(ServerWorld world, ServerPlayerEntity player) {
-        if (isPlayingJumpscare) return;
-
-        // Random direction whispers
-        int offsetX = world.getRandom().nextBetween(-15, 15);
-        int offsetZ = world.getRandom().nextBetween(-15, 15);
-
-        world.playSound(
-            null,
-            player.getBlockPos().add(offsetX, 0, offsetZ),
-            ModSounds.DREAD_AMBIENT,
-            SoundCategory.AMBIENT,
-            0.15f,
-            0.6f + world.getRandom().nextFloat() * 0.2f // Lower pitch = more ominous
-        );
-    }
 }
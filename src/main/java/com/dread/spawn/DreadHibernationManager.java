@@ -0,0 +1,138 @@
+package com.dread.spawn;
+
+import com.dread.DreadMod;
+import com.dread.config.DreadConfigLoader;
+import com.dread.entity.DreadEntity;
+import com.dread.registry.ModEntities;
+import com.dread.spawn.DreadHibernationState.HibernatedDread;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.Difficulty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves Dreads that have been far from every player into a lightweight per-world
+ * registry and rehydrates them as real entities once a player comes back in range.
+ * Keeps long sessions from accumulating idle, ticking, tracked Dread entities, and the
+ * registry itself stays bounded: sleepers past hibernationMaxAgeMinutes, beyond
+ * maxHibernatingPerWorld, or in a Peaceful world are dropped the way vanilla despawns monsters.
+ */
+public class DreadHibernationManager {
+
+    private static final int WAKE_CHECK_INTERVAL = 20; // Check sleepers once per second
+
+    /**
+     * Register the wake-up tick handler.
+     * Call this from DreadMod.onInitialize() after ModEntities.
+     */
+    public static void register() {
+        ServerTickEvents.END_WORLD_TICK.register(world -> {
+            if (world.getTime() % WAKE_CHECK_INTERVAL == 0) {
+                wakeNearbySleepers(world);
+            }
+        });
+
+        DreadMod.LOGGER.info("DreadHibernationManager registered");
+    }
+
+    /**
+     * Check whether a Dread has no player within hibernation range.
+     */
+    public static boolean isFarFromPlayers(ServerWorld world, DreadEntity dread) {
+        double range = DreadConfigLoader.getConfig().hibernationRange;
+        return !world.isPlayerInRange(dread.getX(), dread.getY(), dread.getZ(), range);
+    }
+
+    /**
+     * Record a Dread in the hibernation registry and remove it from the world.
+     */
+    public static void hibernate(ServerWorld world, DreadEntity dread) {
+        LivingEntity target = dread.getTarget();
+        UUID targetId = target instanceof PlayerEntity ? target.getUuid() : null;
+
+        int dropped = DreadHibernationState.getOrCreate(world).add(new HibernatedDread(
+            dread.getX(),
+            dread.getY(),
+            dread.getZ(),
+            dread.getYaw(),
+            dread.getFormVariant(),
+            dread.hasPlayedSpawnAnimation(),
+            targetId,
+            world.getTime()
+        ), DreadConfigLoader.getConfig().maxHibernatingPerWorld);
+
+        dread.discard();
+
+        DreadMod.LOGGER.debug("Dread hibernated at {} ({} oldest sleepers despawned)", dread.getBlockPos(), dropped);
+    }
+
+    /**
+     * Rehydrate sleepers that have a player back within range and a loaded chunk.
+     * Sleepers stay in the registry while the population budget is exhausted, but expire
+     * after hibernationMaxAgeMinutes and are all dropped on Peaceful.
+     */
+    private static void wakeNearbySleepers(ServerWorld world) {
+        if (!DreadConfigLoader.getConfig().modEnabled) {
+            return;
+        }
+
+        DreadHibernationState state = DreadHibernationState.getOrCreate(world);
+        if (state.isEmpty()) return;
+
+        int dropped = world.getDifficulty() == Difficulty.PEACEFUL
+            ? state.clear()
+            : state.removeOlderThan(world.getTime() - DreadConfigLoader.getConfig().hibernationMaxAgeMinutes * 1200L);
+        if (dropped > 0) {
+            DreadMod.LOGGER.debug("Despawned {} expired hibernating Dreads", dropped);
+            if (state.isEmpty()) return;
+        }
+
+        double range = DreadConfigLoader.getConfig().hibernationRange;
+        List<HibernatedDread> toWake = new ArrayList<>();
+
+        for (HibernatedDread sleeper : state.getAll()) {
+            if (world.isPlayerInRange(sleeper.x, sleeper.y, sleeper.z, range)
+                && world.isChunkLoaded(sleeper.getBlockPos())) {
+                toWake.add(sleeper);
+            }
+        }
+
+        for (HibernatedDread sleeper : toWake) {
+            // Checked per sleeper so each rehydration counts against the budget of the next
+            if (!DreadPopulationRegistry.hasBudgetFor(world, new Vec3d(sleeper.x, sleeper.y, sleeper.z))) {
+                continue;
+            }
+            state.remove(sleeper);
+            rehydrate(world, sleeper);
+        }
+    }
+
+    /**
+     * Recreate a real Dread entity from its hibernation record.
+     */
+    private static void rehydrate(ServerWorld world, HibernatedDread sleeper) {
+        DreadEntity dread = ModEntities.DREAD.create(world);
+        if (dread == null) return;
+
+        dread.refreshPositionAndAngles(sleeper.x, sleeper.y, sleeper.z, sleeper.yaw, 0.0f);
+        dread.setFormVariant(sleeper.formVariant);
+        dread.setPlayedSpawnAnimation(sleeper.spawnAnimPlayed);
+
+        if (sleeper.targetId != null) {
+            PlayerEntity target = world.getPlayerByUuid(sleeper.targetId);
+            if (target != null && target.isAlive() && !target.isSpectator()) {
+                dread.setTarget(target);
+            }
+        }
+
+        world.spawnEntity(dread);
+
+        DreadMod.LOGGER.debug("Dread rehydrated at {}", dread.getBlockPos());
+    }
+}
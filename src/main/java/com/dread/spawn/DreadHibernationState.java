@@ -0,0 +1,182 @@
+package com.dread.spawn;
+
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.PersistentState;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Persistent per-world registry of hibernating Dreads.
+ * A hibernating Dread has been removed from the world and is kept here as a compact
+ * record until a player comes back within range and it is rehydrated. Records are kept in
+ * hibernation order, so the oldest is first; expired and excess records are dropped,
+ * as vanilla would have despawned the idle entity.
+ */
+public class DreadHibernationState extends PersistentState {
+
+    private static final String STATE_NAME = "dread_hibernation";
+
+    private final List<HibernatedDread> hibernating = new ArrayList<>();
+
+    /**
+     * Compact snapshot of a hibernating Dread.
+     */
+    public static class HibernatedDread {
+        public final double x;
+        public final double y;
+        public final double z;
+        public final float yaw;
+        public final int formVariant;
+        public final boolean spawnAnimPlayed;
+        @Nullable
+        public final UUID targetId;
+        public final long hibernatedAt; // World time
+
+        public HibernatedDread(double x, double y, double z, float yaw,
+                               int formVariant, boolean spawnAnimPlayed, @Nullable UUID targetId, long hibernatedAt) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.yaw = yaw;
+            this.formVariant = formVariant;
+            this.spawnAnimPlayed = spawnAnimPlayed;
+            this.targetId = targetId;
+            this.hibernatedAt = hibernatedAt;
+        }
+
+        public HibernatedDread(NbtCompound nbt) {
+            this.x = nbt.getDouble("X");
+            this.y = nbt.getDouble("Y");
+            this.z = nbt.getDouble("Z");
+            this.yaw = nbt.getFloat("Yaw");
+            this.formVariant = nbt.getInt("FormVariant");
+            this.spawnAnimPlayed = nbt.getBoolean("SpawnAnimPlayed");
+            this.targetId = nbt.containsUuid("Target") ? nbt.getUuid("Target") : null;
+            this.hibernatedAt = nbt.getLong("HibernatedAt");
+        }
+
+        public NbtCompound toNbt() {
+            NbtCompound nbt = new NbtCompound();
+            nbt.putDouble("X", x);
+            nbt.putDouble("Y", y);
+            nbt.putDouble("Z", z);
+            nbt.putFloat("Yaw", yaw);
+            nbt.putInt("FormVariant", formVariant);
+            nbt.putBoolean("SpawnAnimPlayed", spawnAnimPlayed);
+            if (targetId != null) {
+                nbt.putUuid("Target", targetId);
+            }
+            nbt.putLong("HibernatedAt", hibernatedAt);
+            return nbt;
+        }
+
+        public BlockPos getBlockPos() {
+            return BlockPos.ofFloored(x, y, z);
+        }
+    }
+
+    public DreadHibernationState() {
+        super();
+    }
+
+    public static DreadHibernationState getOrCreate(ServerWorld world) {
+        return world.getPersistentStateManager().getOrCreate(
+            new Type<>(
+                DreadHibernationState::new,
+                DreadHibernationState::createFromNbt,
+                null
+            ),
+            STATE_NAME
+        );
+    }
+
+    public static DreadHibernationState createFromNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+        DreadHibernationState state = new DreadHibernationState();
+
+        NbtList list = nbt.getList("Hibernating", 10);  // 10 = Compound type
+        for (int i = 0; i < list.size(); i++) {
+            state.hibernating.add(new HibernatedDread(list.getCompound(i)));
+        }
+
+        return state;
+    }
+
+    @Override
+    public NbtCompound writeNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+        NbtList list = new NbtList();
+        for (HibernatedDread dread : hibernating) {
+            list.add(dread.toNbt());
+        }
+        nbt.put("Hibernating", list);
+        return nbt;
+    }
+
+    /**
+     * Add a record, dropping the oldest ones beyond maxRecords.
+     *
+     * @return Number of records dropped
+     */
+    public int add(HibernatedDread dread, int maxRecords) {
+        hibernating.add(dread);
+        int dropped = 0;
+        while (hibernating.size() > maxRecords) {
+            hibernating.remove(0);
+            dropped++;
+        }
+        markDirty();
+        return dropped;
+    }
+
+    /**
+     * Drop records that have been hibernating since before the cutoff world time.
+     *
+     * @return Number of records dropped
+     */
+    public int removeOlderThan(long cutoff) {
+        int before = hibernating.size();
+        if (hibernating.removeIf(dread -> dread.hibernatedAt < cutoff)) {
+            markDirty();
+        }
+        return before - hibernating.size();
+    }
+
+    /**
+     * Drop every record.
+     *
+     * @return Number of records dropped
+     */
+    public int clear() {
+        int dropped = hibernating.size();
+        if (dropped > 0) {
+            hibernating.clear();
+            markDirty();
+        }
+        return dropped;
+    }
+
+    public void remove(HibernatedDread dread) {
+        if (hibernating.remove(dread)) {
+            markDirty();
+        }
+    }
+
+    public boolean isEmpty() {
+        return hibernating.isEmpty();
+    }
+
+    public int size() {
+        return hibernating.size();
+    }
+
+    public List<HibernatedDread> getAll() {
+        return Collections.unmodifiableList(hibernating);
+    }
+}
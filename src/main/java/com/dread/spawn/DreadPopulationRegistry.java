@@ -0,0 +1,99 @@
+package com.dread.spawn;
+
+import com.dread.DreadMod;
+import com.dread.config.DreadConfigLoader;
+import com.dread.entity.DreadEntity;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-world registry of live Dread entities, kept current from entity load/unload events.
+ * Enforces the global population cap and per-region density limit for new spawns.
+ */
+public class DreadPopulationRegistry {
+
+    // Live Dreads per dimension: entityId -> entity
+    private static final Map<RegistryKey<World>, Map<Integer, DreadEntity>> liveDreads = new HashMap<>();
+
+    /**
+     * Register entity lifecycle events.
+     * Call this from DreadMod.onInitialize() before any spawn logic runs.
+     */
+    public static void register() {
+        ServerEntityEvents.ENTITY_LOAD.register((entity, world) -> {
+            if (entity instanceof DreadEntity dread) {
+                liveDreads.computeIfAbsent(world.getRegistryKey(), k -> new HashMap<>())
+                    .put(dread.getId(), dread);
+                DreadProximityGrid.invalidate(world);
+            }
+        });
+
+        ServerEntityEvents.ENTITY_UNLOAD.register((entity, world) -> {
+            if (entity instanceof DreadEntity dread) {
+                Map<Integer, DreadEntity> dreads = liveDreads.get(world.getRegistryKey());
+                if (dreads != null) {
+                    dreads.remove(dread.getId());
+                }
+                DreadProximityGrid.invalidate(world);
+            }
+        });
+
+        // Entity ids restart with each server - never carry entries across
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+            liveDreads.clear();
+            DreadProximityGrid.clear();
+        });
+
+        DreadMod.LOGGER.info("DreadPopulationRegistry registered");
+    }
+
+    /**
+     * Get all live Dreads in a world.
+     */
+    public static Collection<DreadEntity> getLiveDreads(ServerWorld world) {
+        Map<Integer, DreadEntity> dreads = liveDreads.get(world.getRegistryKey());
+        return dreads != null ? Collections.unmodifiableCollection(dreads.values()) : Collections.emptyList();
+    }
+
+    /**
+     * Get the number of live Dreads in a world.
+     */
+    public static int getLiveCount(ServerWorld world) {
+        Map<Integer, DreadEntity> dreads = liveDreads.get(world.getRegistryKey());
+        return dreads != null ? dreads.size() : 0;
+    }
+
+    /**
+     * Count live Dreads within a radius of a position (via the per-tick proximity grid).
+     */
+    public static int countWithin(ServerWorld world, Vec3d pos, double radius) {
+        return DreadProximityGrid.countWithin(world, pos, radius);
+    }
+
+    /**
+     * Check whether one more Dread may be materialized near a position
+     * without exceeding the world cap or the regional density limit.
+     *
+     * @param world Server world
+     * @param pos Position the new Dread would appear around
+     * @return true if the spawn budget allows another Dread
+     */
+    public static boolean hasBudgetFor(ServerWorld world, Vec3d pos) {
+        var config = DreadConfigLoader.getConfig();
+
+        if (getLiveCount(world) >= config.maxDreadsPerWorld) {
+            return false;
+        }
+
+        return countWithin(world, pos, config.dreadRegionRadius) < config.maxDreadsPerRegion;
+    }
+}
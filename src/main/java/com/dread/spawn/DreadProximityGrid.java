@@ -0,0 +1,158 @@
+package com.dread.spawn;
+
+import com.dread.entity.DreadEntity;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-tick spatial grid of live Dread positions, built from DreadPopulationRegistry.
+ * The grid for a world is built on the first query of a tick and reused by every other
+ * "Dread near X" query that tick; queries walk only the 16x16 columns overlapping the
+ * search radius and allocate nothing. Dread loads and unloads invalidate it, so spawns
+ * earlier in the same tick are seen by later budget checks.
+ */
+public class DreadProximityGrid {
+
+    private static final int CELL_SHIFT = 4; // 16-block columns
+    private static final double ENTITY_MARGIN = 2.0; // Covers a Dread's bounding box half-width
+
+    private static final Map<RegistryKey<World>, Grid> grids = new HashMap<>();
+
+    private static class Grid {
+        long builtTick = Long.MIN_VALUE;
+        int size = 0;
+        final Long2ObjectMap<List<DreadEntity>> cells = new Long2ObjectOpenHashMap<>();
+    }
+
+    /**
+     * Find the live Dread nearest to origin whose bounding box intersects box.
+     * Same selection as getEntitiesByClass(DreadEntity.class, box, ...) sorted by distance
+     * to origin, so callers keep axis-aligned search boxes (e.g. a player's box expanded by range).
+     *
+     * @return The nearest Dread, or null if none intersects the box
+     */
+    @Nullable
+    public static DreadEntity findNearest(ServerWorld world, Box box, Vec3d origin) {
+        Grid grid = get(world);
+        if (grid.size == 0) return null;
+
+        DreadEntity nearest = null;
+        double nearestSq = Double.MAX_VALUE;
+
+        // Dreads are bucketed by position, so widen by their half-width to catch overlapping boxes
+        int minX = cell(box.minX - ENTITY_MARGIN);
+        int maxX = cell(box.maxX + ENTITY_MARGIN);
+        int minZ = cell(box.minZ - ENTITY_MARGIN);
+        int maxZ = cell(box.maxZ + ENTITY_MARGIN);
+
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cz = minZ; cz <= maxZ; cz++) {
+                List<DreadEntity> cell = grid.cells.get(ChunkPos.toLong(cx, cz));
+                if (cell == null) continue;
+
+                for (int i = 0; i < cell.size(); i++) {
+                    DreadEntity dread = cell.get(i);
+                    if (!dread.getBoundingBox().intersects(box)) continue;
+
+                    double distSq = dread.squaredDistanceTo(origin);
+                    if (distSq < nearestSq) {
+                        nearest = dread;
+                        nearestSq = distSq;
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Count live Dreads within radius of a position.
+     */
+    public static int countWithin(ServerWorld world, Vec3d pos, double radius) {
+        Grid grid = get(world);
+        if (grid.size == 0) return 0;
+
+        double radiusSq = radius * radius;
+        int count = 0;
+
+        int minX = cell(pos.x - radius);
+        int maxX = cell(pos.x + radius);
+        int minZ = cell(pos.z - radius);
+        int maxZ = cell(pos.z + radius);
+
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cz = minZ; cz <= maxZ; cz++) {
+                List<DreadEntity> cell = grid.cells.get(ChunkPos.toLong(cx, cz));
+                if (cell == null) continue;
+
+                for (int i = 0; i < cell.size(); i++) {
+                    if (cell.get(i).squaredDistanceTo(pos) <= radiusSq) {
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Force a rebuild on the next query (a Dread was loaded or unloaded).
+     */
+    static void invalidate(ServerWorld world) {
+        Grid grid = grids.get(world.getRegistryKey());
+        if (grid != null) {
+            grid.builtTick = Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Drop all grids (server stop).
+     */
+    static void clear() {
+        grids.clear();
+    }
+
+    private static Grid get(ServerWorld world) {
+        Grid grid = grids.computeIfAbsent(world.getRegistryKey(), k -> new Grid());
+        if (grid.builtTick != world.getTime()) {
+            rebuild(world, grid);
+        }
+        return grid;
+    }
+
+    private static void rebuild(ServerWorld world, Grid grid) {
+        // Reuse cell lists across ticks, then drop the ones left empty
+        for (List<DreadEntity> cell : grid.cells.values()) {
+            cell.clear();
+        }
+
+        int size = 0;
+        for (DreadEntity dread : DreadPopulationRegistry.getLiveDreads(world)) {
+            if (dread.isRemoved()) continue;
+            grid.cells.computeIfAbsent(ChunkPos.toLong(cell(dread.getX()), cell(dread.getZ())), k -> new ArrayList<>())
+                .add(dread);
+            size++;
+        }
+
+        grid.cells.values().removeIf(List::isEmpty);
+        grid.size = size;
+        grid.builtTick = world.getTime();
+    }
+
+    private static int cell(double coord) {
+        return MathHelper.floor(coord) >> CELL_SHIFT;
+    }
+}
@@ -3,6 +3,7 @@ package com.dread.spawn;
 import com.dread.DreadMod;
 import com.dread.config.DreadConfigLoader;
 import com.dread.entity.DreadEntity;
+import com.dread.network.DreadNetworking;
 import com.dread.registry.ModEntities;
 import com.dread.sound.DreadSoundManager;
 import com.dread.sound.ModSounds;
@@ -63,34 +64,32 @@ public class DreadSpawnManager {
     private static void evaluateSpawnProbability(ServerWorld world) {
         // Check if mod is enabled
         if (!DreadConfigLoader.getConfig().modEnabled) {
-            return; // Skip all spawn logic when mod disabled
+            // Skip all spawn logic when mod disabled, and silence the client soundscape
+            for (ServerPlayerEntity player : world.getPlayers()) {
+                DreadSoundManager.clearTension(world, player);
+            }
+            return;
         }
 
         // Process pending glimpse vanishes
         processGlimpseVanishes(world);
 
-        // Tick sound manager
-        DreadSoundManager.tick(world);
-
         SpawnProbabilityState state = SpawnProbabilityState.getOrCreate(world);
         List<ServerPlayerEntity> players = world.getPlayers();
 
         for (ServerPlayerEntity player : players) {
-            // Skip if player is on cooldown
-            if (state.isOnCooldown(player.getUuid(), world.getTime())) {
-                continue;
-            }
-
             // Calculate spawn chance based on day, mining, etc.
             float spawnChance = calculateSpawnChance(state, player, world);
 
-            // Danger indicator sound based on current probability
-            if (spawnChance > 0.01f) {
-                float intensity = Math.min(spawnChance * 10, 1.0f);
-                // Only play occasionally (not every tick, every 5 seconds)
-                if (world.getTime() % 100 == 0 && world.getRandom().nextFloat() < 0.3f) {
-                    DreadSoundManager.playDangerRising(world, player, intensity);
-                }
+            boolean onCooldown = state.isOnCooldown(player.getUuid(), world.getTime());
+
+            // Tension drives the client-side soundscape (drones, danger rising, whispers)
+            DreadSoundManager.replicateTension(world, player, state.getMinedBlocks(player.getUuid()),
+                spawnChance, onCooldown);
+
+            // Skip if player is on cooldown
+            if (onCooldown) {
+                continue;
             }
 
             // Random check
@@ -98,14 +97,21 @@ public class DreadSpawnManager {
                 // Decide: Real spawn (25%) vs Fake-out (75%) for 3:1 ratio
                 boolean isRealSpawn = RANDOM.nextFloat() < 0.25f;
 
+                // Over the population budget: downgrade to a fake-out instead of adding an entity
+                if (isRealSpawn && !DreadPopulationRegistry.hasBudgetFor(world, player.getPos())) {
+                    DreadMod.LOGGER.debug("Spawn budget exhausted near player {}, converting to fake-out",
+                        player.getName().getString());
+                    isRealSpawn = false;
+                }
+
                 if (isRealSpawn) {
                     DreadMod.LOGGER.info("REAL SPAWN triggered for player {} (chance: {}, day: {})",
                         player.getName().getString(),
                         String.format("%.4f", spawnChance),
                         world.getTimeOfDay() / 24000L);
 
-                    // Spawn Dread behind player
-                    spawnDread(world, player);
+                    // Queue Dread behind player (materialized by DreadSpawnQueue)
+                    DreadSpawnQueue.enqueue(world, player, DreadSpawnQueue.SpawnKind.REAL);
 
                     // Reset mining counter and set standard cooldown
                     state.resetAfterSpawn(player.getUuid(), world.getTime());
@@ -166,7 +172,7 @@ public class DreadSpawnManager {
      * @param world Server world
      * @return true if player is safe from daytime spawns
      */
-    private static boolean isPlayerInDaylightSafety(ServerPlayerEntity player, ServerWorld world) {
+    static boolean isPlayerInDaylightSafety(ServerPlayerEntity player, ServerWorld world) {
         // Check if it's daytime (1000-13000 ticks = 7am to 7pm)
         long timeOfDay = world.getTimeOfDay() % 24000;
         boolean isDaytime = timeOfDay >= 1000 && timeOfDay < 13000;
@@ -209,10 +215,12 @@ public class DreadSpawnManager {
      */
     private static void triggerFakeout(ServerWorld world, ServerPlayerEntity player, SpawnProbabilityState state) {
         // 40% chance for visual glimpse, 60% for audio-only fake-out
-        boolean isVisualGlimpse = RANDOM.nextFloat() < 0.40f;
+        // Glimpses are real (transient) entities, so they also respect the population budget
+        boolean isVisualGlimpse = RANDOM.nextFloat() < 0.40f
+            && DreadPopulationRegistry.hasBudgetFor(world, player.getPos());
 
         if (isVisualGlimpse) {
-            spawnGlimpse(world, player);
+            DreadSpawnQueue.enqueue(world, player, DreadSpawnQueue.SpawnKind.GLIMPSE);
             DreadMod.LOGGER.info("GLIMPSE fake-out for player {}", player.getName().getString());
         } else {
             DreadSoundManager.playFakeoutSound(world, player);
@@ -229,8 +237,9 @@ public class DreadSpawnManager {
      * Spawn a "glimpse" Dread at the edge of player's peripheral vision.
      * The Dread appears briefly then immediately starts vanishing.
      * Creates the unsettling "did I just see something?" effect.
+     * Called by DreadSpawnQueue when the queued intent executes.
      */
-    private static void spawnGlimpse(ServerWorld world, ServerPlayerEntity player) {
+    static void spawnGlimpse(ServerWorld world, ServerPlayerEntity player) {
         // Calculate position at edge of player's vision (60-90 degrees to the side)
         float playerYaw = player.getYaw();
 
@@ -282,9 +291,9 @@ public class DreadSpawnManager {
             int vanishDelay = 10 + RANDOM.nextInt(20); // 10-30 ticks
             scheduleGlimpseVanish(world, dread, vanishDelay);
 
-            // Play subtle ambient sound (not full jump scare)
-            world.playSound(
-                null,
+            // Play subtle ambient sound (not full jump scare) to players watching the spawn chunk
+            DreadNetworking.playSoundToWatchers(
+                world,
                 groundPos,
                 ModSounds.DREAD_AMBIENT,
                 SoundCategory.HOSTILE,
@@ -337,8 +346,9 @@ public class DreadSpawnManager {
     /**
      * Spawn a Dread entity behind the player at random distance (3-8 blocks).
      * Plays jump scare sound and adjusts Y to ground level.
+     * Called by DreadSpawnQueue when the queued intent executes.
      */
-    private static void spawnDread(ServerWorld world, ServerPlayerEntity player) {
+    static void spawnDread(ServerWorld world, ServerPlayerEntity player) {
         // Calculate spawn position behind player
         Vec3d lookDir = player.getRotationVector();
         Vec3d behindDir = lookDir.multiply(-1.0);
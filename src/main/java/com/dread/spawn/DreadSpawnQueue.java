@@ -0,0 +1,116 @@
+package com.dread.spawn;
+
+import com.dread.DreadMod;
+import com.dread.config.DreadConfigLoader;
+import com.dread.death.DownedPlayersState;
+import com.dread.sound.DreadSoundManager;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.World;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Smears Dread materializations across ticks.
+ * DreadSpawnManager enqueues spawn intents; at most maxSpawnsPerTick of them are executed
+ * per world tick, so several players rolling a spawn on the same evaluation tick no longer
+ * land entity creation, GeckoLib cache setup and jump scare audio in a single tick.
+ */
+public class DreadSpawnQueue {
+
+    private static final int MAX_INTENT_AGE_TICKS = 100; // 5 seconds - older intents are dropped
+
+    /**
+     * What an intent materializes.
+     */
+    public enum SpawnKind {
+        REAL,    // Dread behind the player with jump scare
+        GLIMPSE  // Transient Dread at the edge of vision
+    }
+
+    private record SpawnIntent(UUID playerId, SpawnKind kind, long enqueuedTick) {}
+
+    private static final Map<RegistryKey<World>, ArrayDeque<SpawnIntent>> queues = new HashMap<>();
+
+    /**
+     * Register the per-tick drain.
+     * Call this from DreadMod.onInitialize() alongside DreadSpawnManager.
+     */
+    public static void register() {
+        ServerTickEvents.END_WORLD_TICK.register(DreadSpawnQueue::process);
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> queues.clear());
+    }
+
+    /**
+     * Queue a spawn for a player. The spawn is validated again when it executes.
+     */
+    public static void enqueue(ServerWorld world, ServerPlayerEntity player, SpawnKind kind) {
+        queues.computeIfAbsent(world.getRegistryKey(), k -> new ArrayDeque<>())
+            .add(new SpawnIntent(player.getUuid(), kind, world.getTime()));
+    }
+
+    /**
+     * Execute up to maxSpawnsPerTick queued intents for this world.
+     */
+    private static void process(ServerWorld world) {
+        ArrayDeque<SpawnIntent> queue = queues.get(world.getRegistryKey());
+        if (queue == null || queue.isEmpty()) return;
+
+        int budget = DreadConfigLoader.getConfig().maxSpawnsPerTick;
+
+        while (budget > 0 && !queue.isEmpty()) {
+            SpawnIntent intent = queue.poll();
+
+            if (world.getTime() - intent.enqueuedTick() > MAX_INTENT_AGE_TICKS) {
+                continue; // Stale - the moment has passed
+            }
+
+            ServerPlayerEntity player = world.getServer().getPlayerManager().getPlayer(intent.playerId());
+            if (!isStillValid(world, player)) {
+                DreadMod.LOGGER.debug("Dropped {} spawn intent for {} (no longer valid)",
+                    intent.kind(), intent.playerId());
+                continue;
+            }
+
+            // Budget may have filled up since the roll - fall back to an audio fake-out
+            if (!DreadPopulationRegistry.hasBudgetFor(world, player.getPos())) {
+                DreadSoundManager.playFakeoutSound(world, player);
+                budget--;
+                continue;
+            }
+
+            if (intent.kind() == SpawnKind.REAL) {
+                DreadSpawnManager.spawnDread(world, player);
+            } else {
+                DreadSpawnManager.spawnGlimpse(world, player);
+            }
+            budget--;
+        }
+    }
+
+    /**
+     * Check that the target player can still receive a spawn:
+     * online in this world, alive, not spectating, not downed, not in daylight safety.
+     */
+    private static boolean isStillValid(ServerWorld world, ServerPlayerEntity player) {
+        if (player == null || player.isRemoved() || player.getServerWorld() != world) {
+            return false;
+        }
+
+        if (!player.isAlive() || player.isSpectator()) {
+            return false;
+        }
+
+        if (DownedPlayersState.getOrCreate(world).isDowned(player)) {
+            return false;
+        }
+
+        return !DreadSpawnManager.isPlayerInDaylightSafety(player, world);
+    }
+}
@@ -0,0 +1,108 @@
+package com.dread.world;
+
+import com.dread.DreadMod;
+import com.dread.network.DreadNetworking;
+import com.dread.network.packets.TorchExtinguishS2C;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-world service that coalesces light-source removals requested by all Dreads.
+ *
+ * Removals are collected and applied in batches grouped by chunk section. Every removal in a
+ * section lands in the same tick, so the lighting engine propagates the darkness for that
+ * section in one queued pass and the chunk holder sends one delta packet per section.
+ * The randomized per-torch timing lives on the client, which staggers smoke and sound
+ * across the batch window (see TorchExtinguishS2C).
+ */
+public class ExtinguishService {
+
+    public static final int FLUSH_INTERVAL_TICKS = 40; // Apply batches every 2 seconds
+
+    // Pending removals per dimension: section key -> torch positions (deduplicated across Dreads)
+    private static final Map<RegistryKey<World>, Map<Long, Set<BlockPos>>> pending = new HashMap<>();
+
+    /**
+     * Register the batch flush tick handler.
+     * Call this from DreadMod.onInitialize().
+     */
+    public static void register() {
+        ServerTickEvents.END_WORLD_TICK.register(world -> {
+            if (world.getTime() % FLUSH_INTERVAL_TICKS == 0) {
+                flush(world);
+            }
+        });
+
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> pending.clear());
+
+        DreadMod.LOGGER.info("ExtinguishService registered");
+    }
+
+    /**
+     * Request that the light source at a position be extinguished in the next batch.
+     */
+    public static void submit(ServerWorld world, BlockPos pos) {
+        long sectionKey = ChunkSectionPos.asLong(
+            ChunkSectionPos.getSectionCoord(pos.getX()),
+            ChunkSectionPos.getSectionCoord(pos.getY()),
+            ChunkSectionPos.getSectionCoord(pos.getZ())
+        );
+
+        pending.computeIfAbsent(world.getRegistryKey(), k -> new LinkedHashMap<>())
+            .computeIfAbsent(sectionKey, k -> new LinkedHashSet<>())
+            .add(pos.toImmutable());
+    }
+
+    /**
+     * Check whether a block state can be extinguished.
+     */
+    public static boolean isExtinguishable(BlockState state) {
+        return ExtinguishableBlocks.contains(state);
+    }
+
+    /**
+     * Apply all pending removals for a world, one section at a time.
+     */
+    private static void flush(ServerWorld world) {
+        Map<Long, Set<BlockPos>> sections = pending.remove(world.getRegistryKey());
+        if (sections == null || sections.isEmpty()) return;
+
+        for (Set<BlockPos> positions : sections.values()) {
+            List<BlockPos> extinguished = new ArrayList<>(positions.size());
+
+            for (BlockPos pos : positions) {
+                if (!world.isChunkLoaded(pos)) continue;
+
+                // Verify still a light source (might have been broken by player)
+                BlockState state = world.getBlockState(pos);
+                if (!isExtinguishable(state)) continue;
+
+                // Removals need neighbor and shape updates (observers, attached blocks, redstone);
+                // an in-place LIT=false toggle only needs the client sync
+                BlockState extinguishedState = ExtinguishableBlocks.extinguishedState(state);
+                int flags = extinguishedState.isOf(state.getBlock()) ? Block.NOTIFY_LISTENERS : Block.NOTIFY_ALL;
+                world.setBlockState(pos, extinguishedState, flags);
+                extinguished.add(pos);
+            }
+
+            if (!extinguished.isEmpty()) {
+                DreadNetworking.sendToChunkWatchers(world, extinguished.get(0), new TorchExtinguishS2C(extinguished));
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.dread.world;
+
+import com.dread.DreadMod;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.state.property.Properties;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.List;
+
+/**
+ * Lookup table of block states a Dread can extinguish, driven by the dread:extinguishable tag.
+ *
+ * The tag is compiled on every tag reload into a dense bitset indexed by raw BlockState id,
+ * so membership is a single array read. Only lit states are members: blocks with a LIT
+ * property count while lit and are switched off, everything else in the tag is removed.
+ */
+public class ExtinguishableBlocks {
+
+    public static final TagKey<Block> TAG = TagKey.of(RegistryKeys.BLOCK, Identifier.of("dread", "extinguishable"));
+
+    // Bit per raw BlockState id - replaced wholesale on reload, never mutated
+    private static volatile long[] bits = new long[0];
+
+    /**
+     * Register tag reload listener.
+     * Call this from DreadMod.onInitialize().
+     */
+    public static void register() {
+        CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> {
+            if (!client) {
+                rebuild();
+            }
+        });
+    }
+
+    /**
+     * Recompile the bitset from the current tag contents.
+     */
+    private static void rebuild() {
+        long[] table = new long[(Block.STATE_IDS.size() + 63) >>> 6];
+        int count = 0;
+
+        for (BlockState state : Block.STATE_IDS) {
+            if (!state.isIn(TAG)) continue;
+
+            // Already-dark candles and campfires are not targets
+            if (state.contains(Properties.LIT) && !state.get(Properties.LIT)) continue;
+
+            int id = Block.getRawIdFromState(state);
+            table[id >>> 6] |= 1L << id;
+            count++;
+        }
+
+        bits = table;
+        DreadMod.LOGGER.info("Compiled {} extinguishable block states from {}", count, TAG.id());
+    }
+
+    /**
+     * Check whether a block state is a lit light source a Dread can extinguish.
+     */
+    public static boolean contains(BlockState state) {
+        long[] table = bits;
+        int id = Block.getRawIdFromState(state);
+        int word = id >>> 6;
+        return word < table.length && (table[word] & (1L << id)) != 0;
+    }
+
+    /**
+     * Get the state a light source becomes once extinguished.
+     * Blocks with a LIT property are switched off, everything else is removed and replaced
+     * by its fluid (a waterlogged lantern leaves water, not an air pocket).
+     */
+    public static BlockState extinguishedState(BlockState state) {
+        if (state.contains(Properties.LIT)) {
+            return state.with(Properties.LIT, false);
+        }
+        return state.getFluidState().getBlockState();
+    }
+
+    /**
+     * Collect every extinguishable block in a cube around a center position.
+     * Walks loaded chunk sections directly and skips any section whose palette
+     * holds no extinguishable state.
+     *
+     * @param world Server world
+     * @param center Cube center
+     * @param range Half-width of the cube in blocks
+     * @param out List receiving immutable positions
+     */
+    public static void collectInRange(ServerWorld world, BlockPos center, int range, List<BlockPos> out) {
+        int minX = center.getX() - range;
+        int maxX = center.getX() + range;
+        int minY = Math.max(center.getY() - range, world.getBottomY());
+        int maxY = Math.min(center.getY() + range, world.getTopY() - 1);
+        int minZ = center.getZ() - range;
+        int maxZ = center.getZ() + range;
+        if (minY > maxY) return;
+
+        for (int cx = minX >> 4; cx <= maxX >> 4; cx++) {
+            for (int cz = minZ >> 4; cz <= maxZ >> 4; cz++) {
+                WorldChunk chunk = world.getChunkManager().getWorldChunk(cx, cz);
+                if (chunk == null) continue;
+
+                for (int sy = minY >> 4; sy <= maxY >> 4; sy++) {
+                    ChunkSection section = chunk.getSection(world.sectionCoordToIndex(sy));
+                    if (section.isEmpty() || !section.hasAny(ExtinguishableBlocks::contains)) continue;
+
+                    int x0 = Math.max(minX, ChunkSectionPos.getBlockCoord(cx));
+                    int x1 = Math.min(maxX, ChunkSectionPos.getBlockCoord(cx) + 15);
+                    int y0 = Math.max(minY, ChunkSectionPos.getBlockCoord(sy));
+                    int y1 = Math.min(maxY, ChunkSectionPos.getBlockCoord(sy) + 15);
+                    int z0 = Math.max(minZ, ChunkSectionPos.getBlockCoord(cz));
+                    int z1 = Math.min(maxZ, ChunkSectionPos.getBlockCoord(cz) + 15);
+
+                    for (int y = y0; y <= y1; y++) {
+                        for (int z = z0; z <= z1; z++) {
+                            for (int x = x0; x <= x1; x++) {
+                                if (contains(section.getBlockState(x & 15, y & 15, z & 15))) {
+                                    out.add(new BlockPos(x, y, z));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.dread.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Offscreen check that the downed blur chains stay equivalent to the original single-pass
+ * 2D kernel. The passes are modelled on the CPU texel for texel, the way the shaders sample
+ * (GL_NEAREST with clamp-to-edge), so this runs without a GL context.
+ *
+ * The full-resolution separable chain must match the 2D kernel exactly. The half-resolution
+ * chain is an approximation; it is compared on the final composited output (blur mixed back
+ * in by FadeIntensity) over a smooth scene and a scene of hard-edged blocks.
+ */
+public class DownedBlurEquivalenceTest {
+
+    private static final int WIDTH = 160;
+    private static final int HEIGHT = 96;
+    private static final float BASE_BLUR_RADIUS = 8.0f;
+    private static final float[] FADES = {1.0f, 0.5f, 0.25f, 0.1f};
+
+    // Uniforms set by downed_blur_half.json
+    private static final float HALF_TEXEL_SCALE = 2.0f;
+    private static final float HALF_FALLOFF_COMPENSATION = 1.0f;
+
+    private static final double SEPARABLE_TOLERANCE = 1e-4;
+    private static final double HALF_MAX_ERROR = 40.0 / 255.0;
+    private static final double HALF_MEAN_ERROR = 5.0 / 255.0;
+
+    @Test
+    public void separableChainMatchesTheTwoDimensionalKernel() {
+        for (float[][] scene : new float[][][]{smoothScene(), edgeScene()}) {
+            for (EffectQualityGovernor.Tier tier : EffectQualityGovernor.Tier.values()) {
+                for (float fade : FADES) {
+                    float radius = BASE_BLUR_RADIUS * tier.getBlurRadiusScale() * fade;
+                    float[][] expected = reference(scene, radius);
+                    float[][] actual = separable(scene, radius);
+                    double max = maxError(expected, actual);
+                    assertTrue(max <= SEPARABLE_TOLERANCE,
+                        tier + " fade " + fade + ": max error " + max);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void halfResolutionChainStaysCloseToTheTwoDimensionalKernel() {
+        for (float[][] scene : new float[][][]{smoothScene(), edgeScene()}) {
+            for (EffectQualityGovernor.Tier tier : EffectQualityGovernor.Tier.values()) {
+                for (float fade : FADES) {
+                    float radius = BASE_BLUR_RADIUS * tier.getBlurRadiusScale() * fade;
+                    float[][] expected = composite(scene, reference(scene, radius), fade);
+                    float[][] actual = composite(scene, upsample(halfResolution(scene, radius)), fade);
+                    double max = maxError(expected, actual);
+                    double mean = meanError(expected, actual);
+                    assertTrue(max <= HALF_MAX_ERROR,
+                        tier + " fade " + fade + ": max error " + max * 255 + "/255");
+                    assertTrue(mean <= HALF_MEAN_ERROR,
+                        tier + " fade " + fade + ": mean error " + mean * 255 + "/255");
+                }
+            }
+        }
+    }
+
+    // The pre-separable downed_blur.fsh kernel
+    private static float[][] reference(float[][] in, float radius) {
+        int samples = (int) Math.max(1.0f, radius);
+        float falloff = radius * 0.5f + 0.001f;
+        float[][] out = new float[HEIGHT][WIDTH];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                double color = 0.0;
+                double totalWeight = 0.0;
+                for (int i = -samples; i <= samples; i++) {
+                    for (int j = -samples; j <= samples; j++) {
+                        double weight = Math.exp(-(i * i + j * j) / falloff);
+                        color += texel(in, x + i, y + j) * weight;
+                        totalWeight += weight;
+                    }
+                }
+                out[y][x] = (float) (color / totalWeight);
+            }
+        }
+        return out;
+    }
+
+    private static float[][] separable(float[][] in, float radius) {
+        return blur(blur(in, 1, 0, radius, 1.0f, 0.0f), 0, 1, radius, 1.0f, 0.0f);
+    }
+
+    private static float[][] halfResolution(float[][] in, float radius) {
+        float[][] half = downsample(in);
+        float[][] horizontal = blur(half, 1, 0, radius, HALF_TEXEL_SCALE, HALF_FALLOFF_COMPENSATION);
+        return blur(horizontal, 0, 1, radius, HALF_TEXEL_SCALE, HALF_FALLOFF_COMPENSATION);
+    }
+
+    // One downed_blur.fsh pass
+    private static float[][] blur(float[][] in, int dirX, int dirY, float radius,
+                                  float texelScale, float falloffCompensation) {
+        int samples = (int) Math.max(1.0f, radius / texelScale);
+        float falloff = radius * 0.5f + 0.001f;
+        if (falloffCompensation > 0.0f) {
+            falloff = Math.max(falloff - falloffCompensation, 0.5f);
+        }
+        double g1 = Math.exp(-texelScale * texelScale / falloff);
+        double g2 = g1 * g1;
+
+        int height = in.length;
+        int width = in[0].length;
+        float[][] out = new float[height][width];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                double weight = 1.0;
+                double ratio = g1;
+                double color = in[y][x];
+                double totalWeight = 1.0;
+                for (int i = 1; i <= samples; i++) {
+                    weight *= ratio;
+                    ratio *= g2;
+                    color += (texel(in, x + dirX * i, y + dirY * i) + texel(in, x - dirX * i, y - dirY * i)) * weight;
+                    totalWeight += 2.0 * weight;
+                }
+                out[y][x] = (float) (color / totalWeight);
+            }
+        }
+        return out;
+    }
+
+    // downed_downsample.fsh
+    private static float[][] downsample(float[][] in) {
+        int width = (WIDTH + 1) / 2;
+        int height = (HEIGHT + 1) / 2;
+        float[][] out = new float[height][width];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                out[y][x] = (texel(in, 2 * x, 2 * y) + texel(in, 2 * x + 1, 2 * y)
+                    + texel(in, 2 * x, 2 * y + 1) + texel(in, 2 * x + 1, 2 * y + 1)) * 0.25f;
+            }
+        }
+        return out;
+    }
+
+    // sampleBilinear() in downed_composite.fsh
+    private static float[][] upsample(float[][] in) {
+        int width = in[0].length;
+        int height = in.length;
+        float[][] out = new float[HEIGHT][WIDTH];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                double posX = (x + 0.5) / WIDTH * width - 0.5;
+                double posY = (y + 0.5) / HEIGHT * height - 0.5;
+                int baseX = (int) Math.floor(posX);
+                int baseY = (int) Math.floor(posY);
+                double fx = posX - baseX;
+                double fy = posY - baseY;
+                double top = texel(in, baseX, baseY) * (1 - fx) + texel(in, baseX + 1, baseY) * fx;
+                double bottom = texel(in, baseX, baseY + 1) * (1 - fx) + texel(in, baseX + 1, baseY + 1) * fx;
+                out[y][x] = (float) (top * (1 - fy) + bottom * fy);
+            }
+        }
+        return out;
+    }
+
+    // The fade mix in downed_composite.fsh; the vignette multiplies both chains alike
+    private static float[][] composite(float[][] original, float[][] blurred, float fade) {
+        float[][] out = new float[HEIGHT][WIDTH];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                out[y][x] = original[y][x] + (blurred[y][x] - original[y][x]) * fade;
+            }
+        }
+        return out;
+    }
+
+    private static float texel(float[][] image, int x, int y) {
+        int clampedX = Math.max(0, Math.min(image[0].length - 1, x));
+        int clampedY = Math.max(0, Math.min(image.length - 1, y));
+        return image[clampedY][clampedX];
+    }
+
+    private static float[][] smoothScene() {
+        float[][] scene = new float[HEIGHT][WIDTH];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                scene[y][x] = (float) (0.5 + 0.4 * Math.sin(x * 0.07) * Math.cos(y * 0.05));
+            }
+        }
+        return scene;
+    }
+
+    private static float[][] edgeScene() {
+        float[][] scene = new float[HEIGHT][WIDTH];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                scene[y][x] = ((x / 23) + (y / 17)) % 2 == 0 ? 0.9f : 0.1f;
+            }
+        }
+        return scene;
+    }
+
+    private static double maxError(float[][] expected, float[][] actual) {
+        double max = 0.0;
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                max = Math.max(max, Math.abs(expected[y][x] - actual[y][x]));
+            }
+        }
+        return max;
+    }
+
+    private static double meanError(float[][] expected, float[][] actual) {
+        double sum = 0.0;
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                sum += Math.abs(expected[y][x] - actual[y][x]);
+            }
+        }
+        return sum / (WIDTH * HEIGHT);
+    }
+}
@@ -0,0 +1,85 @@
+package com.dread.client;
+
+import com.dread.cinematic.CinematicTimeline.Phase;
+import net.minecraft.util.Identifier;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Texture selection runs on every Dread render during a cinematic, so it must not allocate.
+ */
+public class DreadTextureTableTest {
+
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int MEASURED_ROUNDS = 1_000;
+
+    private static final Phase[] PHASES = Phase.values();
+
+    @Test
+    public void everySlotHasATexture() {
+        for (int variant = 0; variant < DreadTextureTable.VARIANTS; variant++) {
+            for (Phase phase : PHASES) {
+                for (int frame = 0; frame < DreadTextureTable.PULSE_FRAMES; frame++) {
+                    int slot = DreadTextureTable.slot(variant, phase, frame);
+                    assertNotNull(DreadTextureTable.getTexture(slot));
+                    assertEquals(variant, DreadTextureTable.getVariant(slot));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void repeatedLookupsReturnTheSameIdentifier() {
+        int slot = DreadTextureTable.slot(0, Phase.PULSE, 1);
+        assertSame(DreadTextureTable.getTexture(slot), DreadTextureTable.getTexture(slot));
+    }
+
+    @Test
+    public void selectionDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        // Warm up so the measured loop runs compiled code
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += selectAll();
+        }
+
+        // Cost of the measurement itself, subtracted below
+        long overheadStart = threads.getCurrentThreadAllocatedBytes();
+        long overhead = threads.getCurrentThreadAllocatedBytes() - overheadStart;
+
+        long start = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            sink += selectAll();
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - start - overhead;
+
+        assertEquals(0, allocated, "texture selection allocated " + allocated + " bytes");
+        assertEquals((long) (WARMUP_ROUNDS + MEASURED_ROUNDS) * DreadTextureTable.SLOTS, sink);
+    }
+
+    /**
+     * Select every texture once, as the renderer does per variant, phase and pulse frame.
+     *
+     * @return Number of textures selected
+     */
+    private static int selectAll() {
+        int selected = 0;
+        for (int variant = 0; variant < DreadTextureTable.VARIANTS; variant++) {
+            for (int p = 0; p < PHASES.length; p++) {
+                for (int frame = 0; frame < DreadTextureTable.PULSE_FRAMES; frame++) {
+                    Identifier texture = DreadTextureTable.getTexture(DreadTextureTable.slot(variant, PHASES[p], frame));
+                    if (texture != null) {
+                        selected++;
+                    }
+                }
+            }
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,96 @@
+package com.dread.network.packets;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.registry.DynamicRegistryManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Encoded body size of each frequently sent Dread payload, so encoding changes show up as
+ * a bandwidth change per packet type. Sizes exclude the payload identifier and packet framing.
+ */
+public class DreadPayloadSizeTest {
+
+    private static final int ENTITY_ID = 1234;        // Two-byte varint, typical for a busy world
+    private static final long EXPIRY_TICK = 2_400_000; // Day 100
+
+    @BeforeAll
+    public static void bootstrap() {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+    }
+
+    @Test
+    public void revivalProgressStart() {
+        RevivalProgressS2C payload = RevivalProgressS2C.started(ENTITY_ID, 60);
+        // varint id (2) + active (1) + varint duration (1)
+        assertEquals(4, encodedSize(RevivalProgressS2C.CODEC, payload));
+        assertEquals(payload, roundTrip(RevivalProgressS2C.CODEC, payload));
+    }
+
+    @Test
+    public void revivalProgressEnd() {
+        RevivalProgressS2C payload = RevivalProgressS2C.ended(ENTITY_ID);
+        // varint id (2) + active (1)
+        assertEquals(3, encodedSize(RevivalProgressS2C.CODEC, payload));
+        assertEquals(payload, roundTrip(RevivalProgressS2C.CODEC, payload));
+    }
+
+    @Test
+    public void downedStateUpdate() {
+        DownedStateUpdateS2C payload = new DownedStateUpdateS2C(true, false, true, 600, EXPIRY_TICK);
+        // flags (1) + varint remaining (2) + varlong expiry (4)
+        assertEquals(7, encodedSize(DownedStateUpdateS2C.CODEC, payload));
+        assertEquals(payload, roundTrip(DownedStateUpdateS2C.CODEC, payload));
+    }
+
+    @Test
+    public void downedFlag() {
+        DownedFlagS2C payload = new DownedFlagS2C(ENTITY_ID, true);
+        // varint id (2) + downed (1)
+        assertEquals(3, encodedSize(DownedFlagS2C.CODEC, payload));
+        assertEquals(payload, roundTrip(DownedFlagS2C.CODEC, payload));
+    }
+
+    @Test
+    public void tensionUpdate() {
+        TensionUpdateS2C payload = new TensionUpdateS2C(1.0f, 0.0f);
+        // ambient (1) + danger (1)
+        assertEquals(2, encodedSize(TensionUpdateS2C.CODEC, payload));
+        assertEquals(payload, roundTrip(TensionUpdateS2C.CODEC, payload));
+    }
+
+    @Test
+    public void jumpScare() {
+        JumpScareS2C payload = new JumpScareS2C(60);
+        // varint duration (1)
+        assertEquals(1, encodedSize(JumpScareS2C.CODEC, payload));
+        assertEquals(payload, roundTrip(JumpScareS2C.CODEC, payload));
+    }
+
+    private static <T> int encodedSize(PacketCodec<RegistryByteBuf, T> codec, T payload) {
+        RegistryByteBuf buf = new RegistryByteBuf(Unpooled.buffer(), DynamicRegistryManager.EMPTY);
+        try {
+            codec.encode(buf, payload);
+            return buf.readableBytes();
+        } finally {
+            buf.release();
+        }
+    }
+
+    private static <T> T roundTrip(PacketCodec<RegistryByteBuf, T> codec, T payload) {
+        RegistryByteBuf buf = new RegistryByteBuf(Unpooled.buffer(), DynamicRegistryManager.EMPTY);
+        try {
+            codec.encode(buf, payload);
+            return codec.decode(buf);
+        } finally {
+            buf.release();
+        }
+    }
+}